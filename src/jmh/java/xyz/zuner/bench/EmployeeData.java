@@ -0,0 +1,108 @@
+package xyz.zuner.bench;
+
+import xyz.zuner.api.NumericKey;
+import xyz.zuner.obj.Employee;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * <p>21:198:335:02 Data Structures & Algorithms</p>
+ * <p>Data Structures Final Project</p>
+ * <p>Rutgers ID: 199009651</p>
+ * <br>
+ * <p>
+ * Deterministic employee data sets shared by the JMH benchmarks. Every data set is generated
+ * from a fixed seed so runs on different machines sort exactly the same input.
+ * </p>
+ *
+ * @author Zeyad "zmr15" Rashed
+ * @mailto zmr15@scarletmail.rutgers.edu
+ * @created 18 Oct 2026
+ */
+public final class EmployeeData {
+
+    private static final long SEED = 0x5EED_CAFEL;
+    private static final int FEW_UNIQUE_VALUES = 8;
+
+    private static final String[] DEPARTMENTS = {"Accounting", "IT", "HR", "Marketing", "Operations"};
+    private static final String[] POSITIONS = {"Manager", "Technician", "Analyst", "Clerk", "Supervisor"};
+    private static final String[] FIRST_NAMES = {"Alice", "Bob", "Charlie", "Diana", "Eve", "Frank"};
+    private static final String[] LAST_NAMES = {"Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia"};
+
+    /**
+     * How the generated list is ordered relative to the benchmarked comparator.
+     */
+    public enum Order {
+        RANDOM, SORTED, REVERSED, FEW_UNIQUE
+    }
+
+    /**
+     * The sort keys exposed by the "Sort by ..." buttons in the application.
+     */
+    public enum Key {
+        NAME(Comparator.comparing(Employee::getName), null),
+        ID(Comparator.comparing(Employee::getId), NumericKey.ID),
+        SALARY(Comparator.comparing(Employee::getSalary), NumericKey.SALARY);
+
+        final Comparator<Employee> comparator;
+        final NumericKey numericKey; // null when the key has no primitive form
+
+        Key(Comparator<Employee> comparator, NumericKey numericKey) {
+            this.comparator = comparator;
+            this.numericKey = numericKey;
+        }
+    }
+
+    private EmployeeData() {
+    }
+
+    /**
+     * Generates a list of employees with the given size and presortedness.
+     *
+     * @param size  the number of employees
+     * @param order the ordering of the list relative to {@code key}
+     * @param key   the sort key the list is prepared for
+     * @return a new, mutable list of employees
+     */
+    static List<Employee> generate(int size, Order order, Key key) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<Employee> employees = new ArrayList<>(size);
+
+        if (order == Order.FEW_UNIQUE) {
+            // every employee is a copy of one of a handful of prototypes, so the key has few distinct values
+            Employee[] prototypes = new Employee[FEW_UNIQUE_VALUES];
+            for (int i = 0; i < prototypes.length; i++) {
+                prototypes[i] = randomEmployee(random, i);
+            }
+            for (int i = 0; i < size; i++) {
+                Employee p = prototypes[random.nextInt(prototypes.length)];
+                employees.add(new Employee(p.getId(), p.getName(), p.getSalary(),
+                        p.getDepartment(), p.getPosition(), p.getYearsOfService()));
+            }
+            return employees;
+        }
+
+        for (int i = 0; i < size; i++) {
+            employees.add(randomEmployee(random, i));
+        }
+        if (order == Order.SORTED) {
+            employees.sort(key.comparator);
+        } else if (order == Order.REVERSED) {
+            employees.sort(key.comparator.reversed());
+        }
+        return employees;
+    }
+
+    private static Employee randomEmployee(SplittableRandom random, int i) {
+        String id = String.format("%06d", random.nextInt(1_000_000));
+        String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        double salary = Math.round((50000 + random.nextDouble() * 50000) * 100.0) / 100.0;
+        String department = DEPARTMENTS[random.nextInt(DEPARTMENTS.length)];
+        String position = POSITIONS[random.nextInt(POSITIONS.length)];
+        int yearsOfService = random.nextInt(20);
+        return new Employee(id, name, salary, department, position, yearsOfService);
+    }
+}
@@ -0,0 +1,73 @@
+package xyz.zuner.bench;
+
+import org.openjdk.jmh.annotations.*;
+import xyz.zuner.api.StackSorter;
+import xyz.zuner.obj.Employee;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>21:198:335:02 Data Structures & Algorithms</p>
+ * <p>Data Structures Final Project</p>
+ * <p>Rutgers ID: 199009651</p>
+ * <br>
+ * <p>
+ * JMH benchmarks for the O(n^2) algorithms in {@link StackSorter}. The sizes stop at 100,000
+ * because a single bubble sort of a million employees already takes hours.
+ * </p>
+ * <p>
+ * Run with {@code java -jar target/benchmarks.jar QuadraticSortBenchmark -prof gc}.
+ * </p>
+ *
+ * @author Zeyad "zmr15" Rashed
+ * @mailto zmr15@scarletmail.rutgers.edu
+ * @created 18 Oct 2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuadraticSortBenchmark {
+
+    @Param({"30", "1000", "10000", "100000"})
+    public int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "FEW_UNIQUE"})
+    public EmployeeData.Order order;
+
+    @Param({"NAME", "ID", "SALARY"})
+    public EmployeeData.Key key;
+
+    private List<Employee> source;
+    private Comparator<Employee> comparator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = EmployeeData.generate(size, order, key);
+        comparator = key.comparator;
+    }
+
+    @Benchmark
+    public List<Employee> copyBaseline() {
+        return new ArrayList<>(source);
+    }
+
+    @Benchmark
+    public List<Employee> bubbleSort() {
+        List<Employee> items = new ArrayList<>(source);
+        StackSorter.bubbleSort(items, comparator);
+        return items;
+    }
+
+    @Benchmark
+    public List<Employee> selectionSort() {
+        List<Employee> items = new ArrayList<>(source);
+        StackSorter.selectionSort(items, comparator);
+        return items;
+    }
+}
@@ -0,0 +1,117 @@
+package xyz.zuner.bench;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import xyz.zuner.api.ParallelMergeSorter;
+import xyz.zuner.api.StackSorter;
+import xyz.zuner.obj.Employee;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>21:198:335:02 Data Structures & Algorithms</p>
+ * <p>Data Structures Final Project</p>
+ * <p>Rutgers ID: 199009651</p>
+ * <br>
+ * <p>
+ * JMH benchmarks for the O(n log n) algorithms in {@link StackSorter} and {@link ParallelMergeSorter},
+ * and for the binary search.
+ * Each sort benchmark copies the prepared list before sorting it, so {@link #copyBaseline()}
+ * is included to subtract the cost of that copy from the results.
+ * </p>
+ * <p>
+ * Run with {@code java -jar target/benchmarks.jar StackSorterBenchmark -prof gc}.
+ * </p>
+ *
+ * @author Zeyad "zmr15" Rashed
+ * @mailto zmr15@scarletmail.rutgers.edu
+ * @created 18 Oct 2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class StackSorterBenchmark {
+
+    @Param({"30", "1000", "100000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "FEW_UNIQUE"})
+    public EmployeeData.Order order;
+
+    @Param({"NAME", "ID", "SALARY"})
+    public EmployeeData.Key key;
+
+    private final StackSorter sorter = new StackSorter();
+    private final ParallelMergeSorter parallelSorter = new ParallelMergeSorter();
+    private List<Employee> source;
+    private Comparator<Employee> comparator;
+
+    private List<Employee> sortedById;
+    private Employee[] searchKeys;
+    private int nextKey;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = EmployeeData.generate(size, order, key);
+        comparator = key.comparator;
+
+        // binarySearch always matches on the ID, so it needs a list sorted by ID
+        sortedById = new ArrayList<>(source);
+        sortedById.sort(EmployeeData.Key.ID.comparator);
+        searchKeys = new Employee[1024];
+        for (int i = 0; i < searchKeys.length; i++) {
+            searchKeys[i] = source.get((int) ((i * 0x9E3779B97F4A7C15L >>> 1) % size));
+        }
+    }
+
+    @Benchmark
+    public List<Employee> copyBaseline() {
+        return new ArrayList<>(source);
+    }
+
+    @Benchmark
+    public List<Employee> heapSort() {
+        List<Employee> items = new ArrayList<>(source);
+        StackSorter.heapSort(items, comparator);
+        return items;
+    }
+
+    @Benchmark
+    public List<Employee> sort() {
+        List<Employee> items = new ArrayList<>(source);
+        sorter.sort(items, comparator);
+        return items;
+    }
+
+    @Benchmark
+    public List<Employee> parallelMergeSort() {
+        List<Employee> items = new ArrayList<>(source);
+        parallelSorter.sort(items, comparator);
+        return items;
+    }
+
+    /**
+     * Radix sort on the primitive key. There is no numeric form of the name, so for
+     * {@code key=NAME} this measures the comparator sort instead.
+     */
+    @Benchmark
+    public List<Employee> radixSort() {
+        List<Employee> items = new ArrayList<>(source);
+        if (key.numericKey == null) sorter.sort(items, comparator);
+        else StackSorter.radixSort(items, key.numericKey, true);
+        return items;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void binarySearch(Blackhole blackhole) {
+        Employee target = searchKeys[nextKey++ & (searchKeys.length - 1)];
+        blackhole.consume(sorter.binarySearch(sortedById, target, 0, sortedById.size() - 1));
+    }
+}
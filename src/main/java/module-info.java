@@ -11,6 +11,7 @@ module xyz.zuner {
     requires org.testfx;
     requires org.testfx.junit5;
     requires java.desktop;
+    requires java.management;
     requires junit;
     requires javafx.swing;
 
@@ -20,4 +21,6 @@ module xyz.zuner {
     opens xyz.zuner.api to javafx.base, javafx.fxml, com.google.gson, javafx.swing;
     exports xyz.zuner;
     exports xyz.zuner.handlers;
+    exports xyz.zuner.api;
+    exports xyz.zuner.obj;
 }
\ No newline at end of file
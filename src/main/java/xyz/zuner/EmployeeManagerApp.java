@@ -1,18 +1,42 @@
 package xyz.zuner;
 
 import javafx.application.Application;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.concurrent.Task;
 import javafx.geometry.Insets;
+import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
-import javafx.scene.control.cell.PropertyValueFactory;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
+import xyz.zuner.api.AdaptiveSorter;
+import xyz.zuner.api.EmployeeAggregates;
+import xyz.zuner.api.EmployeeBitmapIndex;
+import xyz.zuner.api.EmployeeIndex;
+import xyz.zuner.api.HookedComparator;
+import xyz.zuner.api.InstrumentedSorter;
+import xyz.zuner.api.NumericKey;
+import xyz.zuner.api.ParallelMergeSorter;
+import xyz.zuner.api.SortMetrics;
+import xyz.zuner.api.SortOrder;
+import xyz.zuner.api.Sortable;
+import xyz.zuner.api.SortedViewCache;
 import xyz.zuner.api.StackSorter;
 import xyz.zuner.handlers.EmployeeFileHandler;
+import xyz.zuner.handlers.EmployeeGenerator;
+import xyz.zuner.handlers.EmployeeJournal;
+import xyz.zuner.handlers.IncrementalEmployeeFile;
 import xyz.zuner.obj.Employee;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -24,7 +48,7 @@ import java.util.function.Function;
  * JavaFX application for employee management with sorting and file handling features.
  * <p>
  * Requirements Met:
- * - Sorting algorithms (Bubble Sort, Heap Sort).
+ * - Sorting algorithms (Adaptive Sort, Bubble Sort, Heap Sort, Parallel Merge Sort).
  * - Polymorphism (via {@link xyz.zuner.api.Sortable} interface).
  * - Aggregation (via {@code List<Employee>}).
  * - File I/O (via {@link EmployeeFileHandler}).
@@ -37,11 +61,33 @@ import java.util.function.Function;
  */
 public class EmployeeManagerApp extends Application {
 
+    private static final long BYTES_PER_EMPLOYEE = 256; // rough heap footprint of a loaded employee and its indexes
+
     private final StackSorter sorter = new StackSorter();
+    private final Sortable<Employee> parallelSorter = new ParallelMergeSorter();
     private final Map<Button, Boolean> toggleStates = new HashMap<>(); // toggle states for sort buttons
-    private List<Employee> employees = new ArrayList<>();
+    private final ExecutorService background = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "employee-manager-background");
+        thread.setDaemon(true);
+        return thread;
+    }); // runs sorts and file I/O one at a time, off the FX thread
+    private EmployeeIndex employeeIndex = new EmployeeIndex(); // ID lookups, whatever the display order
+    private final Map<String, BiConsumer<List<Employee>, Comparator<Employee>>> algorithms = new LinkedHashMap<>();
+    private final Map<String, BiConsumer<List<Employee>, Comparator<Employee>>> instrumentedAlgorithms = new LinkedHashMap<>();
+    private boolean collectMetrics; // whether timed sorts also count comparisons and list accesses, which slows them down
+    private List<Employee> roster = new ArrayList<>(); // the same employees in load order, plus manual adds
+    private SortedViewCache sortedViews = new SortedViewCache(roster); // sort-button orders of the roster
+    private EmployeeAggregates aggregates = EmployeeAggregates.compute(roster); // statistics per department and position
+    private EmployeeBitmapIndex bitmapIndex = new EmployeeBitmapIndex(); // roster rows per department and position
+    private EmployeeJournal journal; // manual adds since Employee.txt was last written
+    private IncrementalEmployeeFile employeeFile; // record offsets of Employee.txt, for saving only what changed
+    private final EmployeeTableModel tableModel = new EmployeeTableModel(); // the employees in display order, as the table shows them
     private TableView<Employee> employeeTable;
-    private boolean useHeapSort = true; // tracks sorting algorithm
+    private VBox controls; // disabled while a background task runs
+    private HBox statusBar;
+    private Label statusLabel;
+    private Task<?> currentTask;
+    private String currentAlgorithm = "Adaptive Sort"; // tracks sorting algorithm
 
     public static void main(String[] args) {
         launch(args);
@@ -51,17 +97,60 @@ public class EmployeeManagerApp extends Application {
     public void start(Stage primaryStage) {
         primaryStage.setTitle("Employee Manager");
 
+        // algorithms the toggle button cycles through, in order
+        Sortable<Employee> adaptiveSorter = new AdaptiveSorter();
+        algorithms.put("Adaptive Sort", adaptiveSorter::sort);
+        algorithms.put("Heap Sort", StackSorter::heapSort);
+        algorithms.put("Bubble Sort", StackSorter::bubbleSort);
+        algorithms.put("Parallel Merge Sort", parallelSorter::sort);
+
+        // the same algorithms, each measured into its own JMX-visible metrics
+        instrumentedAlgorithms.put("Adaptive Sort", new InstrumentedSorter<>(adaptiveSorter, "Adaptive Sort")::sort);
+        instrumentedAlgorithms.put("Heap Sort", StackSorter.instrumented(StackSorter::heapSort, SortMetrics.forName("Heap Sort")));
+        instrumentedAlgorithms.put("Bubble Sort", StackSorter.instrumented(StackSorter::bubbleSort, SortMetrics.forName("Bubble Sort")));
+        instrumentedAlgorithms.put("Parallel Merge Sort", new InstrumentedSorter<>(parallelSorter, "Parallel Merge Sort")::sort);
+
         // initialize table
-        employeeTable = new TableView<>();
+        employeeTable = new TableView<>(tableModel);
         initializeTable();
 
-        // load data
-        loadEmployees();
+        // progress and cancel for background tasks, hidden while idle
+        ProgressIndicator progress = new ProgressIndicator();
+        progress.setPrefSize(20, 20);
+        statusLabel = new Label();
+        Button cancel = new Button("Cancel");
+        cancel.setOnAction(e -> {
+            if (currentTask != null) currentTask.cancel(true);
+        });
+        statusBar = new HBox(10, progress, statusLabel, cancel);
+        statusBar.setAlignment(Pos.CENTER_LEFT);
+        statusBar.setVisible(false);
+        statusBar.managedProperty().bind(statusBar.visibleProperty());
 
         // create sort buttons
-        Button sortByName = createToggleSortButton("Sort by Name", Employee::getName);
-        Button sortById = createToggleSortButton("Sort by ID", Employee::getId);
-        Button sortBySalary = createToggleSortButton("Sort by Salary", Employee::getSalary);
+        Button sortByName = createToggleSortButton("Sort by Name", Employee.BY_NAME);
+        Button sortByDepartment = createToggleSortButton("Sort by Department", Employee.BY_DEPARTMENT);
+        Button sortById = createToggleSortButton("Sort by ID", NumericKey.ID);
+        Button sortBySalary = createToggleSortButton("Sort by Salary", NumericKey.SALARY);
+
+        Button sortByColumns = new Button("Sort by Multiple Columns");
+        sortByColumns.setOnAction(e -> sortByColumns());
+
+        // create search buttons
+        Button findById = new Button("Find by ID");
+        findById.setOnAction(e -> findById());
+
+        Button findBySalaryRange = new Button("Find by Salary Range");
+        findBySalaryRange.setOnAction(e -> findBySalaryRange());
+
+        Button findTopK = new Button("Find Top Employees");
+        findTopK.setOnAction(e -> findTopK());
+
+        Button filterByGroup = new Button("Find by Department and Position");
+        filterByGroup.setOnAction(e -> findByDepartmentAndPosition());
+
+        Button showReport = new Button("Show Group Report");
+        showReport.setOnAction(e -> showGroupReport());
 
         // create other buttons
         Button populateRandom = new Button("Populate Random Employees");
@@ -76,25 +165,38 @@ public class EmployeeManagerApp extends Application {
         Button addManual = new Button("Add Employee Manually");
         addManual.setOnAction(e -> modifyEmployeeFile());
 
-        Button toggleAlgorithm = new Button("Switch to Bubble Sort");
+        Button toggleAlgorithm = new Button("Switch to " + nextAlgorithm());
         toggleAlgorithm.setOnAction(e -> {
-            useHeapSort = !useHeapSort;
-            toggleAlgorithm.setText(useHeapSort ? "Switch to Bubble Sort" : "Switch to Heap Sort");
-            showAlert("Info", "Sorting algorithm switched to " + (useHeapSort ? "Heap Sort" : "Bubble Sort"),
-                    Alert.AlertType.INFORMATION);
+            currentAlgorithm = nextAlgorithm();
+            toggleAlgorithm.setText("Switch to " + nextAlgorithm());
+            showAlert("Info", "Sorting algorithm switched to " + currentAlgorithm, Alert.AlertType.INFORMATION);
         });
 
         Button sortButton = new Button("Sort and Measure Time");
         sortButton.setOnAction(e -> sortAndMeasurePerformance());
 
+        CheckBox metricsToggle = new CheckBox("Collect Sort Metrics");
+        metricsToggle.setOnAction(e -> collectMetrics = metricsToggle.isSelected());
+
+        Button showMetrics = new Button("Show Sort Metrics");
+        showMetrics.setOnAction(e -> showSortMetrics());
+
         // set layout
+        controls = new VBox(10);
+        controls.getChildren().addAll(
+                new Label("Sorting Options:"),
+                toggleAlgorithm, sortButton, metricsToggle, showMetrics, sortByName, sortByDepartment, sortById, sortBySalary, sortByColumns,
+                new Label("Search Options:"),
+                findById, findBySalaryRange, findTopK, filterByGroup, showReport,
+                new Label("File Operations:"),
+                populateRandom, saveToFile, saveSortedToFile, addManual
+        );
+
         VBox layout = new VBox(10);
         layout.setPadding(new Insets(15));
         layout.getChildren().addAll(
-                new Label("Sorting Options:"),
-                toggleAlgorithm, sortButton, sortByName, sortById, sortBySalary,
-                new Label("File Operations:"),
-                populateRandom, saveToFile, saveSortedToFile, addManual,
+                controls,
+                statusBar,
                 new Label("Employee Table:"),
                 employeeTable
         );
@@ -102,137 +204,727 @@ public class EmployeeManagerApp extends Application {
         Scene scene = new Scene(layout, 800, 600);
         primaryStage.setScene(scene);
         primaryStage.show();
+
+        // load data
+        try {
+            journal = new EmployeeJournal("Employee.txt");
+        } catch (IOException e) {
+            showAlert("Error", "Failed to open the employee journal: " + e.getMessage(), Alert.AlertType.ERROR);
+        }
+        loadEmployees();
     }
 
     /**
-     * Initializes the TableView with columns for employee attributes.
+     * Initializes the TableView with columns for employee attributes. Cells read the fields
+     * through direct getter calls rather than reflection.
      */
     private void initializeTable() {
         TableColumn<Employee, String> idColumn = new TableColumn<>("ID");
-        idColumn.setCellValueFactory(new PropertyValueFactory<>("id"));
+        idColumn.setCellValueFactory(cell -> new ReadOnlyObjectWrapper<>(cell.getValue().getId()));
 
         TableColumn<Employee, String> nameColumn = new TableColumn<>("Name");
-        nameColumn.setCellValueFactory(new PropertyValueFactory<>("name"));
+        nameColumn.setCellValueFactory(cell -> new ReadOnlyObjectWrapper<>(cell.getValue().getName()));
 
         TableColumn<Employee, Double> salaryColumn = new TableColumn<>("Salary");
-        salaryColumn.setCellValueFactory(new PropertyValueFactory<>("salary"));
+        salaryColumn.setCellValueFactory(cell -> new ReadOnlyObjectWrapper<>(cell.getValue().getSalary()));
 
         TableColumn<Employee, String> departmentColumn = new TableColumn<>("Department");
-        departmentColumn.setCellValueFactory(new PropertyValueFactory<>("department"));
+        departmentColumn.setCellValueFactory(cell -> new ReadOnlyObjectWrapper<>(cell.getValue().getDepartment()));
 
         TableColumn<Employee, String> positionColumn = new TableColumn<>("Position");
-        positionColumn.setCellValueFactory(new PropertyValueFactory<>("position"));
+        positionColumn.setCellValueFactory(cell -> new ReadOnlyObjectWrapper<>(cell.getValue().getPosition()));
 
         TableColumn<Employee, Integer> yearsColumn = new TableColumn<>("Years of Service");
-        yearsColumn.setCellValueFactory(new PropertyValueFactory<>("yearsOfService"));
+        yearsColumn.setCellValueFactory(cell -> new ReadOnlyObjectWrapper<>(cell.getValue().getYearsOfService()));
 
         employeeTable.getColumns().addAll(idColumn, nameColumn, salaryColumn, departmentColumn, positionColumn, yearsColumn);
         employeeTable.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY); // auto-resize columns
+        employeeTable.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE); // search results select a range
     }
 
     /**
      * Creates a toggleable sort button that alternates between ascending and descending.
+     * The order is sorted once and then served from the sorted-view cache.
      *
-     * @param label        the button label
-     * @param keyExtractor the key extractor function for sorting
+     * @param label      the button label
+     * @param comparator the ascending order
      * @return the created button
-     * @see StackSorter#sort(List, Comparator)
+     * @see SortedViewCache#view(Object, Comparator, boolean)
      */
-    private Button createToggleSortButton(String label, Function<Employee, ? extends Comparable> keyExtractor) {
+    private Button createToggleSortButton(String label, Comparator<Employee> comparator) {
         Button button = new Button(label);
         toggleStates.put(button, true); // default to ascending
 
         button.setOnAction(e -> {
             boolean isAscending = toggleStates.get(button);
-            Comparator<Employee> comparator = Comparator.comparing(keyExtractor, Comparator.nullsLast(Comparator.naturalOrder()));
+            showSortedView(label, label, views -> views.view(label, comparator, isAscending),
+                    () -> toggleStates.put(button, !isAscending)); // toggle state
+        });
+
+        return button;
+    }
 
-            if (!isAscending) comparator = comparator.reversed();
+    /**
+     * Creates a toggleable sort button for a numeric field that alternates between ascending and descending.
+     * Sorts on primitive keys instead of going through a boxing comparator, once, and then serves
+     * the order from the sorted-view cache.
+     *
+     * @param label the button label
+     * @param key   the numeric field to sort by
+     * @return the created button
+     * @see SortedViewCache#view(NumericKey, boolean)
+     */
+    private Button createToggleSortButton(String label, NumericKey key) {
+        Button button = new Button(label);
+        toggleStates.put(button, true); // default to ascending
+
+        button.setOnAction(e -> {
+            boolean isAscending = toggleStates.get(button);
+            showSortedView(label, key, views -> views.view(key, isAscending),
+                    () -> toggleStates.put(button, !isAscending)); // toggle state
+        });
+
+        return button;
+    }
+
+    /**
+     * Asks for up to three columns and their directions, and shows the roster sorted by them.
+     * The order is sorted once on packed primitive keys and then served from the sorted-view cache.
+     *
+     * @see SortedViewCache#view(SortOrder, boolean)
+     */
+    private void sortByColumns() {
+        Dialog<ButtonType> dialog = new Dialog<>();
+        dialog.setTitle("Sort by Multiple Columns");
+        dialog.setHeaderText("Choose the columns to sort by, most important first:");
+
+        String none = "(None)";
+        String[] defaults = {"Department", "Position", "Salary"};
+        boolean[] defaultAscending = {true, true, false};
+        List<ComboBox<String>> columnBoxes = new ArrayList<>();
+        List<ComboBox<String>> directionBoxes = new ArrayList<>();
+        VBox content = new VBox(10);
+        content.setPadding(new Insets(10));
+        for (int i = 0; i < defaults.length; i++) {
+            ComboBox<String> columnBox = new ComboBox<>();
+            if (i > 0) columnBox.getItems().add(none);
+            for (SortOrder.Column column : SortOrder.Column.values()) columnBox.getItems().add(column.toString());
+            columnBox.setValue(defaults[i]);
+
+            ComboBox<String> directionBox = new ComboBox<>();
+            directionBox.getItems().addAll("Ascending", "Descending");
+            directionBox.setValue(defaultAscending[i] ? "Ascending" : "Descending");
+
+            columnBoxes.add(columnBox);
+            directionBoxes.add(directionBox);
+            content.getChildren().addAll(new Label(i == 0 ? "Sort by:" : "Then by:"), new HBox(10, columnBox, directionBox));
+        }
+        dialog.getDialogPane().setContent(content);
+        dialog.getDialogPane().getButtonTypes().addAll(ButtonType.OK, ButtonType.CANCEL);
+        if (dialog.showAndWait().orElse(ButtonType.CANCEL) != ButtonType.OK) return;
+
+        List<SortOrder.Key> keys = new ArrayList<>();
+        for (int i = 0; i < columnBoxes.size(); i++) {
+            String label = columnBoxes.get(i).getValue();
+            for (SortOrder.Column column : SortOrder.Column.values()) {
+                if (column.toString().equals(label)) {
+                    keys.add(new SortOrder.Key(column, "Ascending".equals(directionBoxes.get(i).getValue())));
+                }
+            }
+        }
+
+        SortOrder order;
+        try {
+            order = new SortOrder(keys);
+        } catch (IllegalArgumentException e) {
+            showAlert("Error", "Invalid sort order: " + e.getMessage(), Alert.AlertType.ERROR);
+            return;
+        }
+        showSortedView("Sort by " + order, order, views -> views.view(order, true), () -> {
+        });
+    }
 
+    /**
+     * Displays a sorted view of the roster. A cached order is shown right away; otherwise it is
+     * sorted in the background first.
+     *
+     * @param label       names the sort in the status bar and the timing alert
+     * @param cacheKey    the key the order is cached under
+     * @param view        gets the view from the cache
+     * @param onPublished runs on the FX thread after the sorted list is displayed
+     */
+    private void showSortedView(String label, Object cacheKey, Function<SortedViewCache, List<Employee>> view, Runnable onPublished) {
+        SortedViewCache views = sortedViews;
+        if (views.isCached(cacheKey)) {
             long startTime = System.nanoTime();
-            sorter.sort(employees, comparator);
+            publishOrder(view.apply(views));
             long endTime = System.nanoTime();
-
-            updateTable();
-            showAlert("Performance", label + " completed in " + (endTime - startTime) + " nanoseconds.",
+            onPublished.run();
+            showAlert("Performance", label + " served from cache in " + (endTime - startTime) + " nanoseconds.",
                     Alert.AlertType.INFORMATION);
+            return;
+        }
 
-            toggleStates.put(button, !isAscending); // toggle state
+        runInBackground(label, cancelled -> {
+            long startTime = System.nanoTime();
+            List<Employee> sorted = view.apply(views);
+            return Map.entry(sorted, System.nanoTime() - startTime);
+        }, result -> {
+            publishOrder(result.getKey());
+            onPublished.run();
+            showAlert("Performance", label + " completed in " + result.getValue() + " nanoseconds.",
+                    Alert.AlertType.INFORMATION);
         });
+    }
 
-        return button;
+    /**
+     * Displays the employees in a new order. The table wraps the list, copying it only if an
+     * employee is added later.
+     *
+     * @param sorted the employees in their new order, possibly a read-only view
+     */
+    private void publishOrder(List<Employee> sorted) {
+        tableModel.setEmployees(sorted);
     }
 
     /**
-     * Measures and displays the performance of the selected sorting algorithm.
+     * Returns the algorithm that follows the current one in the toggle cycle.
      *
+     * @return the name of the next algorithm
+     */
+    private String nextAlgorithm() {
+        List<String> names = new ArrayList<>(algorithms.keySet());
+        return names.get((names.indexOf(currentAlgorithm) + 1) % names.size());
+    }
+
+    /**
+     * Measures and displays the performance of the selected sorting algorithm. The default,
+     * {@link AdaptiveSorter}, picks the algorithm itself from the shape and size of the list.
+     * The sort only counts comparisons and list accesses into its {@link SortMetrics} when metrics
+     * are collected, so that by default the time shown is that of the algorithm alone.
+     *
+     * @see AdaptiveSorter#sort(List, Comparator)
      * @see StackSorter#heapSort(List, Comparator)
      * @see StackSorter#bubbleSort(List, Comparator)
+     * @see ParallelMergeSorter#sort(List, Comparator)
      */
     private void sortAndMeasurePerformance() {
-        Comparator<Employee> comparator = Comparator.comparing(Employee::getSalary);
-        long startTime = System.nanoTime();
+        Comparator<Employee> comparator = NumericKey.SALARY.comparator(); // lets the adaptive sorter pick a radix sort
+        BiConsumer<List<Employee>, Comparator<Employee>> algorithm =
+                (collectMetrics ? instrumentedAlgorithms : algorithms).get(currentAlgorithm);
+        sortInBackground(collectMetrics ? currentAlgorithm + " (collecting metrics)" : currentAlgorithm,
+                (snapshot, cancelled) -> algorithm.accept(snapshot, cancellable(comparator, cancelled)), () -> {
+                });
+    }
 
-        if (useHeapSort) {
-            StackSorter.heapSort(employees, comparator);
-        } else {
-            StackSorter.bubbleSort(employees, comparator);
+    /**
+     * Shows the comparisons, swaps, list accesses and latency percentiles recorded for every
+     * sort algorithm measured while metrics were collected.
+     *
+     * @see SortMetrics#snapshots()
+     */
+    private void showSortMetrics() {
+        StringBuilder report = new StringBuilder();
+        if (!collectMetrics) {
+            report.append("Sorts are only measured while \"Collect Sort Metrics\" is checked.")
+                    .append(System.lineSeparator());
+        }
+        for (SortMetrics.Snapshot snapshot : SortMetrics.snapshots()) {
+            report.append(snapshot.name()).append(": ").append(snapshot.invocations()).append(" sorts")
+                    .append(System.lineSeparator())
+                    .append("  ").append(snapshot.comparisons()).append(" comparisons, ")
+                    .append(snapshot.swaps()).append(" swaps, ")
+                    .append(snapshot.gets()).append(" gets, ")
+                    .append(snapshot.sets()).append(" sets")
+                    .append(System.lineSeparator())
+                    .append("  latency (ns): mean ").append(snapshot.meanLatencyNanos())
+                    .append(", median ").append(snapshot.medianLatencyNanos())
+                    .append(", p99 ").append(snapshot.p99LatencyNanos())
+                    .append(", max ").append(snapshot.maxLatencyNanos())
+                    .append(System.lineSeparator());
         }
+        showAlert("Sort Metrics", report.toString(), Alert.AlertType.INFORMATION);
+    }
 
-        long endTime = System.nanoTime();
-        updateTable();
-        showAlert("Performance", "Sorting completed in " + (endTime - startTime) + " nanoseconds.",
-                Alert.AlertType.INFORMATION);
+    /**
+     * Sorts a copy of the employee list in the background and, when done, publishes it as the
+     * employee list in one step and reports how long the sort itself took.
+     *
+     * @param label       names the sort in the status bar and the timing alert
+     * @param sort        sorts the snapshot; may stop early with a {@link CancellationException}
+     * @param onPublished runs on the FX thread after the sorted list is published
+     */
+    private void sortInBackground(String label, BiConsumer<List<Employee>, BooleanSupplier> sort, Runnable onPublished) {
+        List<Employee> snapshot = new ArrayList<>(tableModel.employees());
+        runInBackground(label, cancelled -> {
+            long startTime = System.nanoTime();
+            sort.accept(snapshot, cancelled);
+            return System.nanoTime() - startTime;
+        }, elapsed -> {
+            tableModel.setEmployees(snapshot);
+            onPublished.run();
+            showAlert("Performance", label + " completed in " + elapsed + " nanoseconds.",
+                    Alert.AlertType.INFORMATION);
+        });
     }
 
     /**
-     * Updates the employee table with the current list of employees.
+     * Wraps a comparator so that a sort using it stops with a {@link CancellationException} once
+     * its task is cancelled. The wrapped comparator stays recognizable to {@link AdaptiveSorter}.
      */
-    private void updateTable() {
-        employeeTable.getItems().setAll(employees);
+    private static Comparator<Employee> cancellable(Comparator<Employee> comparator, BooleanSupplier cancelled) {
+        return new HookedComparator<>(comparator, () -> {
+            if (cancelled.getAsBoolean()) throw new CancellationException();
+        });
     }
 
     /**
-     * Loads employees from a file and displays them in the display area.
+     * Runs work on the background thread while the controls are disabled and the status bar shows
+     * progress and a cancel button. Results are handled on the FX thread; results of cancelled
+     * work are dropped.
      *
-     * @see EmployeeFileHandler#loadEmployeesFromFile(String)
+     * @param description describes the work in the status bar and in error messages
+     * @param work        the work, given a check for whether it was cancelled
+     * @param onSuccess   handles the result on the FX thread
+     * @param <T>         the type of the result
      */
-    private void loadEmployees() {
+    private <T> void runInBackground(String description, BackgroundWork<T> work, Consumer<T> onSuccess) {
+        runInBackground(description, work, onSuccess, () -> {
+        });
+    }
+
+    /**
+     * Runs work on the background thread, with a handler for failures.
+     *
+     * @see #runInBackground(String, BackgroundWork, Consumer)
+     */
+    private <T> void runInBackground(String description, BackgroundWork<T> work, Consumer<T> onSuccess, Runnable onFailure) {
+        Task<T> task = new Task<>() {
+            @Override
+            protected T call() throws Exception {
+                return work.run(this::isCancelled);
+            }
+        };
+        task.setOnSucceeded(e -> {
+            finishBackgroundTask();
+            onSuccess.accept(task.getValue());
+        });
+        task.setOnFailed(e -> {
+            finishBackgroundTask();
+            onFailure.run();
+            showAlert("Error", description + " failed: " + task.getException().getMessage(), Alert.AlertType.ERROR);
+        });
+        task.setOnCancelled(e -> {
+            finishBackgroundTask();
+            showAlert("Info", description + " was cancelled.", Alert.AlertType.INFORMATION);
+        });
+
+        currentTask = task;
+        statusLabel.setText(description + "...");
+        statusBar.setVisible(true);
+        controls.setDisable(true);
+        background.execute(task);
+    }
+
+    private void finishBackgroundTask() {
+        currentTask = null;
+        statusBar.setVisible(false);
+        controls.setDisable(false);
+    }
+
+    /**
+     * Prompts for an employee ID and selects the matching employee.
+     *
+     * @see EmployeeIndex#get(String)
+     */
+    private void findById() {
+        TextInputDialog dialog = new TextInputDialog();
+        dialog.setTitle("Find by ID");
+        dialog.setHeaderText("Enter the employee ID:");
+
+        dialog.showAndWait().ifPresent(id -> {
+            Employee employee = employeeIndex.get(id.trim());
+            if (employee == null) {
+                showAlert("Search", "No employee with ID " + id.trim() + ".", Alert.AlertType.INFORMATION);
+                return;
+            }
+
+            employeeTable.getSelectionModel().clearSelection();
+            employeeTable.getSelectionModel().select(employee);
+            employeeTable.scrollTo(employee);
+            showAlert("Search", employee.toString(), Alert.AlertType.INFORMATION);
+        });
+    }
+
+    /**
+     * Prompts for a salary range, sorts by salary, and selects the employees in the range.
+     *
+     * @see StackSorter#lowerBound(List, double, java.util.function.ToDoubleFunction)
+     */
+    private void findBySalaryRange() {
+        TextInputDialog dialog = new TextInputDialog("60000-70000");
+        dialog.setTitle("Find by Salary Range");
+        dialog.setHeaderText("Enter a salary range as min-max:");
+
+        String input = dialog.showAndWait().orElse(null);
+        if (input == null) return;
+
+        double min;
+        double max;
         try {
-            employees = new ArrayList<>(EmployeeFileHandler.loadEmployeesFromFile("Employee.txt"));
-            updateTable();
-        } catch (IOException e) {
-            showAlert("Error", "Failed to load employees: " + e.getMessage(), Alert.AlertType.ERROR);
-            employees = new ArrayList<>();
+            String[] bounds = input.split("-");
+            min = Double.parseDouble(bounds[0].trim());
+            max = Double.parseDouble(bounds[1].trim());
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            showAlert("Error", "Invalid range. Please enter it as min-max.", Alert.AlertType.ERROR);
+            return;
         }
+
+        // the binary search needs a list sorted by salary, which may have to be sorted first
+        SortedViewCache views = sortedViews;
+        runInBackground("Finding employees by salary", cancelled -> {
+            List<Employee> bySalary = views.view(NumericKey.SALARY, true);
+            int from = sorter.lowerBound(bySalary, min, Employee::getSalary);
+            int to = sorter.lowerBound(bySalary, max, Employee::getSalary);
+            return new SalaryRange(bySalary, from, to);
+        }, range -> {
+            publishOrder(range.bySalary());
+            employeeTable.getSelectionModel().clearSelection();
+            if (range.from() < range.to()) {
+                employeeTable.getSelectionModel().selectRange(range.from(), range.to());
+                employeeTable.scrollTo(range.from());
+            }
+            showAlert("Search", (range.to() - range.from()) + " employees earn at least " + min + " and less than " + max + ".",
+                    Alert.AlertType.INFORMATION);
+        });
+    }
+
+    /**
+     * Prompts for a number k and a ranking, then selects the k best-ranked employees without
+     * sorting or reordering the list, and lists them best first.
+     *
+     * @see Sortable#topK(List, int, Comparator)
+     */
+    private void findTopK() {
+        Dialog<ButtonType> dialog = new Dialog<>();
+        dialog.setTitle("Find Top Employees");
+        dialog.setHeaderText("Enter how many employees to find and how to rank them:");
+
+        TextField countField = new TextField("50");
+        countField.setPromptText("Number of Employees");
+
+        Map<String, Comparator<Employee>> rankings = new LinkedHashMap<>();
+        rankings.put("Highest Salary", NumericKey.SALARY.comparator().reversed());
+        rankings.put("Longest Service", NumericKey.YEARS_OF_SERVICE.comparator().reversed());
+        rankings.put("Lowest Salary", NumericKey.SALARY.comparator());
+        ComboBox<String> rankingBox = new ComboBox<>();
+        rankingBox.getItems().addAll(rankings.keySet());
+        rankingBox.setValue("Highest Salary");
+
+        VBox content = new VBox(10);
+        content.setPadding(new Insets(10));
+        content.getChildren().addAll(
+                new Label("Number of Employees:"), countField,
+                new Label("Ranking:"), rankingBox
+        );
+        dialog.getDialogPane().setContent(content);
+        dialog.getDialogPane().getButtonTypes().addAll(ButtonType.OK, ButtonType.CANCEL);
+        if (dialog.showAndWait().orElse(ButtonType.CANCEL) != ButtonType.OK) return;
+
+        int k;
+        try {
+            k = Integer.parseInt(countField.getText().trim());
+            if (k < 0) throw new NumberFormatException();
+        } catch (NumberFormatException e) {
+            showAlert("Error", "Invalid input. Please enter a whole number.", Alert.AlertType.ERROR);
+            return;
+        }
+
+        String ranking = rankingBox.getValue();
+        Comparator<Employee> comparator = rankings.get(ranking);
+        List<Employee> shown = tableModel.employees(); // the controls that change the list are disabled until the task ends
+        runInBackground("Finding top " + k + " by " + ranking.toLowerCase(),
+                cancelled -> sorter.topK(shown, k, cancellable(comparator, cancelled)), top -> {
+                    int[] rows = displayRows(shown, top);
+                    employeeTable.getSelectionModel().clearSelection();
+                    if (rows.length > 0) {
+                        employeeTable.getSelectionModel().selectIndices(rows[0], Arrays.copyOfRange(rows, 1, rows.length));
+                        employeeTable.scrollTo(top.get(0));
+                    }
+
+                    StringBuilder leaderboard = new StringBuilder();
+                    for (int i = 0; i < top.size(); i++) {
+                        Employee employee = top.get(i);
+                        leaderboard.append(i + 1).append(". ").append(employee.getName())
+                                .append(" (").append(employee.getId()).append("): ")
+                                .append(employee.getSalary()).append(", ")
+                                .append(employee.getYearsOfService()).append(" years")
+                                .append(System.lineSeparator());
+                    }
+                    showAlert("Top " + top.size() + " by " + ranking, leaderboard.toString(), Alert.AlertType.INFORMATION);
+                });
+    }
+
+    /**
+     * Finds the rows of some of the displayed employees in one pass over the table.
+     *
+     * @param shown   the displayed employees
+     * @param matches the employees to find, by identity
+     * @return the rows of the matches, in display order
+     */
+    private static int[] displayRows(List<Employee> shown, Collection<Employee> matches) {
+        Set<Employee> wanted = Collections.newSetFromMap(new IdentityHashMap<>(matches.size()));
+        wanted.addAll(matches);
+        int[] rows = new int[wanted.size()];
+        int found = 0;
+        for (int row = 0; row < shown.size() && found < rows.length; row++) {
+            if (wanted.contains(shown.get(row))) rows[found++] = row;
+        }
+        return found == rows.length ? rows : Arrays.copyOf(rows, found);
+    }
+
+    /**
+     * Prompts for a department and a position, and selects the employees with both or either of
+     * them in the current order. The matches are found by combining the bitmaps of the two
+     * values, not by comparing the fields of every employee.
+     *
+     * @see EmployeeBitmapIndex#rowsMatching(String, String)
+     */
+    private void findByDepartmentAndPosition() {
+        Dialog<ButtonType> dialog = new Dialog<>();
+        dialog.setTitle("Find by Department and Position");
+        dialog.setHeaderText("Choose a department and a position:");
+
+        String any = "(Any)";
+        ComboBox<String> departmentBox = new ComboBox<>();
+        departmentBox.getItems().add(any);
+        departmentBox.getItems().addAll(bitmapIndex.values(EmployeeBitmapIndex.Field.DEPARTMENT));
+        departmentBox.setValue(any);
+
+        ComboBox<String> positionBox = new ComboBox<>();
+        positionBox.getItems().add(any);
+        positionBox.getItems().addAll(bitmapIndex.values(EmployeeBitmapIndex.Field.POSITION));
+        positionBox.setValue(any);
+
+        ComboBox<String> matchBox = new ComboBox<>();
+        matchBox.getItems().addAll("Both", "Either");
+        matchBox.setValue("Both");
+
+        VBox content = new VBox(10);
+        content.setPadding(new Insets(10));
+        content.getChildren().addAll(
+                new Label("Department:"), departmentBox,
+                new Label("Position:"), positionBox,
+                new Label("Match:"), matchBox
+        );
+        dialog.getDialogPane().setContent(content);
+        dialog.getDialogPane().getButtonTypes().addAll(ButtonType.OK, ButtonType.CANCEL);
+        if (dialog.showAndWait().orElse(ButtonType.CANCEL) != ButtonType.OK) return;
+
+        String department = any.equals(departmentBox.getValue()) ? null : departmentBox.getValue();
+        String position = any.equals(positionBox.getValue()) ? null : positionBox.getValue();
+        BitSet rows;
+        if ("Either".equals(matchBox.getValue()) && department != null && position != null) {
+            rows = bitmapIndex.rows(EmployeeBitmapIndex.Field.DEPARTMENT, department);
+            rows.or(bitmapIndex.rows(EmployeeBitmapIndex.Field.POSITION, position));
+        } else {
+            rows = bitmapIndex.rowsMatching(department, position);
+        }
+
+        // bitmap rows are roster indices; map them to the rows of the current order instead of reordering the table
+        int[] selected = displayRows(tableModel, EmployeeBitmapIndex.select(roster, rows));
+        employeeTable.getSelectionModel().clearSelection();
+        if (selected.length > 0) {
+            employeeTable.getSelectionModel().selectIndices(selected[0], Arrays.copyOfRange(selected, 1, selected.length));
+            employeeTable.scrollTo(selected[0]);
+        }
+        showAlert("Search", selected.length + " employees match.", Alert.AlertType.INFORMATION);
+    }
+
+    /**
+     * Asks how to group the employees and shows the salary and years of service statistics of
+     * every group. The statistics are kept up to date as employees are loaded and added, so
+     * nothing is computed here but the merge of the groups.
+     *
+     * @see EmployeeAggregates#summarize(EmployeeAggregates.GroupBy)
+     */
+    private void showGroupReport() {
+        Map<String, EmployeeAggregates.GroupBy> groupings = new LinkedHashMap<>();
+        groupings.put("Department", EmployeeAggregates.GroupBy.DEPARTMENT);
+        groupings.put("Position", EmployeeAggregates.GroupBy.POSITION);
+        groupings.put("Department and Position", EmployeeAggregates.GroupBy.DEPARTMENT_AND_POSITION);
+
+        ChoiceDialog<String> dialog = new ChoiceDialog<>("Department", groupings.keySet());
+        dialog.setTitle("Show Group Report");
+        dialog.setHeaderText("Group employees by:");
+
+        dialog.showAndWait().ifPresent(grouping -> {
+            StringBuilder report = new StringBuilder();
+            aggregates.summarize(groupings.get(grouping)).forEach((group, summary) -> {
+                StringJoiner name = new StringJoiner(" / ");
+                if (group.department() != null) name.add(group.department());
+                if (group.position() != null) name.add(group.position());
+                appendSummary(report, name.toString(), summary);
+            });
+            appendSummary(report, "All Employees", aggregates.total());
+            showAlert("Report by " + grouping, report.toString(), Alert.AlertType.INFORMATION);
+        });
+    }
+
+    private static void appendSummary(StringBuilder report, String name, EmployeeAggregates.Summary summary) {
+        EmployeeAggregates.Statistics salary = summary.getSalary();
+        EmployeeAggregates.Statistics years = summary.getYearsOfService();
+        report.append(name).append(": ").append(summary.getCount()).append(" employees").append(System.lineSeparator())
+                .append(String.format("  Salary: total %.2f, min %.2f, max %.2f, mean %.2f, median %.2f, p90 %.2f, p99 %.2f",
+                        salary.getSum(), salary.getMin(), salary.getMax(), salary.getMean(),
+                        salary.getPercentile(50), salary.getPercentile(90), salary.getPercentile(99)))
+                .append(System.lineSeparator())
+                .append(String.format("  Years of service: min %.0f, max %.0f, mean %.1f, median %.0f, p90 %.0f",
+                        years.getMin(), years.getMax(), years.getMean(), years.getPercentile(50), years.getPercentile(90)))
+                .append(System.lineSeparator());
+    }
+
+    @Override
+    public void stop() throws IOException {
+        background.shutdownNow();
+        if (journal != null) journal.close(); // lets a running compaction finish
+    }
+
+    /**
+     * Loads employees from a file in the background and displays them in the display area.
+     *
+     * @see #readEmployees()
+     */
+    private void loadEmployees() {
+        runInBackground("Loading employees", cancelled -> readEmployees(), this::publish, this::clearEmployees);
     }
 
     /**
-     * Populates the employee file with random employees and reloads the list.
+     * Loads employees from a file, replays the journal on top of them and indexes them by ID.
+     * Runs on the background thread and touches no UI state.
      *
-     * @see EmployeeFileHandler#populateFileWithRandomEmployees(int)
+     * @return the loaded employees
+     * @throws IOException if an I/O error occurs
+     * @see EmployeeFileHandler#loadEmployeesParallel(String)
+     * @see EmployeeJournal#replay(List, EmployeeIndex)
+     */
+    private LoadedEmployees readEmployees() throws IOException {
+        List<Employee> loaded = EmployeeFileHandler.loadEmployeesParallel("Employee.txt");
+        EmployeeIndex index = new EmployeeIndex();
+        index.rebuild(loaded);
+        IncrementalEmployeeFile file = EmployeeFileHandler.trackEmployeeFile("Employee.txt", loaded); // before replay, so replayed changes stay dirty
+        if (journal != null) journal.replay(loaded, index);
+        EmployeeBitmapIndex bitmaps = new EmployeeBitmapIndex();
+        bitmaps.rebuild(loaded);
+        return new LoadedEmployees(loaded, index, file, EmployeeAggregates.compute(loaded), bitmaps);
+    }
+
+    /**
+     * Makes loaded employees the current ones and displays them.
+     */
+    private void publish(LoadedEmployees loaded) {
+        roster = loaded.employees();
+        sortedViews = new SortedViewCache(roster);
+        employeeIndex = loaded.index();
+        employeeFile = loaded.file();
+        aggregates = loaded.aggregates();
+        bitmapIndex = loaded.bitmaps();
+        tableModel.setEmployees(new ArrayList<>(roster)); // the roster itself keeps growing with manual adds
+    }
+
+    private void clearEmployees() {
+        roster = new ArrayList<>();
+        sortedViews = new SortedViewCache(roster);
+        employeeIndex = new EmployeeIndex();
+        employeeFile = null;
+        aggregates = EmployeeAggregates.compute(roster);
+        bitmapIndex = new EmployeeBitmapIndex();
+        tableModel.setEmployees(new ArrayList<>());
+    }
+
+    /**
+     * Asks how many random employees to generate (and optionally a seed, to get the same
+     * employees again), populates the employee file with them and reloads the list.
+     *
+     * @see EmployeeFileHandler#populateFileWithRandomEmployees(String, long, long)
      */
     private void populateRandomEmployees() {
+        Dialog<ButtonType> dialog = new Dialog<>();
+        dialog.setTitle("Populate Random Employees");
+        dialog.setHeaderText("Enter how many employees to generate:");
+
+        TextField countField = new TextField("30");
+        countField.setPromptText("Number of Employees");
+
+        TextField seedField = new TextField();
+        seedField.setPromptText("Seed (optional)");
+
+        VBox content = new VBox(10);
+        content.setPadding(new Insets(10));
+        content.getChildren().addAll(
+                new Label("Number of Employees:"), countField,
+                new Label("Seed:"), seedField
+        );
+        dialog.getDialogPane().setContent(content);
+        dialog.getDialogPane().getButtonTypes().addAll(ButtonType.OK, ButtonType.CANCEL);
+        if (dialog.showAndWait().orElse(ButtonType.CANCEL) != ButtonType.OK) return;
+
+        long count;
+        long seed;
         try {
-            EmployeeFileHandler.populateFileWithRandomEmployees(30);
-            loadEmployees(); // reload the updated file
-            showAlert("Success", "Random employees added successfully.", Alert.AlertType.INFORMATION);
-        } catch (IOException e) {
-            showAlert("Error", "Failed to populate employees: " + e.getMessage(), Alert.AlertType.ERROR);
+            count = Long.parseLong(countField.getText().trim());
+            seed = seedField.getText().isBlank() ? System.nanoTime() : Long.parseLong(seedField.getText().trim());
+        } catch (NumberFormatException e) {
+            showAlert("Error", "Invalid input. Please enter whole numbers.", Alert.AlertType.ERROR);
+            return;
         }
+        long maxCount = maxLoadableEmployees();
+        if (count < 0 || count > maxCount) {
+            showAlert("Error", "Please enter a number of employees from 0 to " + maxCount
+                    + ", the most that fit in memory.", Alert.AlertType.ERROR);
+            return;
+        }
+
+        runInBackground("Generating " + count + " employees", cancelled -> {
+            if (journal != null) journal.awaitCompaction(); // so it cannot overwrite the new file
+            EmployeeFileHandler.populateFileWithRandomEmployees("Employee.txt", count, seed);
+            if (journal != null) journal.clear(); // the old adds do not belong to the new file, now that it replaced the old one
+            return readEmployees(); // reload the updated file
+        }, loaded -> {
+            publish(loaded);
+            showAlert("Success", "Random employees added successfully.", Alert.AlertType.INFORMATION);
+        });
     }
 
     /**
-     * Saves the current employee list to a file.
+     * Gets the most employees the app can generate and then load back: the generator limit, the
+     * size limit of a list, and a rough estimate of what fits into the heap.
      *
+     * @return the largest count to generate
+     */
+    private static long maxLoadableEmployees() {
+        long fitInHeap = Runtime.getRuntime().maxMemory() / BYTES_PER_EMPLOYEE;
+        return Math.min(Math.min(EmployeeGenerator.MAX_COUNT, Integer.MAX_VALUE - 8), fitInHeap);
+    }
+
+    /**
+     * Saves the employees to a file in load order, with manual adds at the end, writing only the
+     * employees that changed or were added when the file is tracked. Sorting the table does not
+     * change the file; Save Sorted to File writes the displayed order instead.
+     *
+     * @see IncrementalEmployeeFile#save(List)
      * @see EmployeeFileHandler#saveEmployeesToFile(String, List)
      */
     private void saveEmployeesToFile() {
-        try {
-            EmployeeFileHandler.saveEmployeesToFile("Employee.txt", employees);
-            showAlert("Success", "Employees saved to file successfully.", Alert.AlertType.INFORMATION);
-        } catch (IOException e) {
-            showAlert("Error", "Failed to save employees: " + e.getMessage(), Alert.AlertType.ERROR);
-        }
+        List<Employee> snapshot = roster; // the controls that change the list are disabled until the save ends
+        IncrementalEmployeeFile file = employeeFile;
+        runInBackground("Saving employees", cancelled -> {
+            if (journal != null) journal.awaitCompaction(); // so it cannot overwrite this save
+            if (file != null) file.save(snapshot);
+            else EmployeeFileHandler.saveEmployeesToFile("Employee.txt", snapshot);
+            if (journal != null) journal.clear(); // the file now includes every journaled add
+            return null;
+        }, result -> showAlert("Success", "Employees saved to file successfully.", Alert.AlertType.INFORMATION));
     }
 
     /**
@@ -241,18 +933,17 @@ public class EmployeeManagerApp extends Application {
      * @see EmployeeFileHandler#saveEmployeesToFile(String, List)
      */
     private void saveSortedFile() {
-        try {
-            EmployeeFileHandler.saveEmployeesToFile("SortedEmployee.txt", employees);
-            showAlert("Success", "Sorted employees saved to SortedEmployee.txt.", Alert.AlertType.INFORMATION);
-        } catch (IOException e) {
-            showAlert("Error", "Failed to save sorted employees: " + e.getMessage(), Alert.AlertType.ERROR);
-        }
+        List<Employee> snapshot = tableModel.employees();
+        runInBackground("Saving sorted employees", cancelled -> {
+            EmployeeFileHandler.saveEmployeesToFile("SortedEmployee.txt", snapshot);
+            return null;
+        }, result -> showAlert("Success", "Sorted employees saved to SortedEmployee.txt.", Alert.AlertType.INFORMATION));
     }
 
     /**
      * Opens a dialog for manually adding an employee and updates the list.
      *
-     * @see EmployeeFileHandler#addEmployeeManually(String, String, double, String, String, int)
+     * @see EmployeeFileHandler#addEmployeeManually(String, String, double, String, String, int, EmployeeJournal)
      */
     private void modifyEmployeeFile() {
         Dialog<Employee> dialog = new Dialog<>();
@@ -303,8 +994,20 @@ public class EmployeeManagerApp extends Application {
                     String position = positionField.getText();
                     int yearsOfService = Integer.parseInt(yearsOfServiceField.getText());
 
-                    EmployeeFileHandler.addEmployeeManually(id, name, salary, department, position, yearsOfService);
-                    loadEmployees(); // reload the updated file
+                    if (journal != null) {
+                        // journal the add and apply it in memory instead of reloading the whole file
+                        Employee employee = EmployeeFileHandler.addEmployeeManually(id, name, salary, department, position, yearsOfService, journal);
+                        roster.add(employee);
+                        sortedViews.added(roster.size() - 1); // patch the cached sort orders instead of dropping them
+                        employeeIndex.put(employee);
+                        aggregates.add(employee);
+                        bitmapIndex.add(employee); // as the last roster row
+                        tableModel.append(employee);
+                        if (journal.needsCompaction()) journal.compact(new ArrayList<>(roster));
+                    } else {
+                        EmployeeFileHandler.addEmployeeManually(id, name, salary, department, position, yearsOfService);
+                        loadEmployees(); // reload the updated file, which also re-indexes it
+                    }
                     showAlert("Success", "Employee added successfully.", Alert.AlertType.INFORMATION);
                 } catch (Exception e) {
                     showAlert("Error", "Invalid input. Please ensure all fields are filled correctly.", Alert.AlertType.ERROR);
@@ -330,4 +1033,28 @@ public class EmployeeManagerApp extends Application {
         alert.setContentText(content);
         alert.showAndWait();
     }
-}
\ No newline at end of file
+
+    /**
+     * Work run off the FX thread by {@link #runInBackground(String, BackgroundWork, Consumer)}.
+     *
+     * @param <T> the type of the result
+     */
+    @FunctionalInterface
+    private interface BackgroundWork<T> {
+        T run(BooleanSupplier cancelled) throws Exception;
+    }
+
+    /**
+     * Employees loaded in the background, with their indexes, the tracked file they came from and
+     * their statistics.
+     */
+    private record LoadedEmployees(List<Employee> employees, EmployeeIndex index, IncrementalEmployeeFile file,
+                                   EmployeeAggregates aggregates, EmployeeBitmapIndex bitmaps) {
+    }
+
+    /**
+     * The employees sorted by salary and the bounds of a salary range in them.
+     */
+    private record SalaryRange(List<Employee> bySalary, int from, int to) {
+    }
+}
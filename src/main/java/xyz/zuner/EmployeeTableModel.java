@@ -0,0 +1,169 @@
+package xyz.zuner;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableListBase;
+import xyz.zuner.obj.Employee;
+
+import java.util.*;
+
+/**
+ * <p>21:198:335:02 Data Structures & Algorithms</p>
+ * <p>Data Structures Final Project</p>
+ * <p>Rutgers ID: 199009651</p>
+ * <br>
+ * <p>
+ * Observable view of the employee list shown in the table. It wraps the list instead of copying
+ * it, and tells the table exactly what changed. A list handed to {@link #setEmployees(List)},
+ * such as a read-only sorted view, is shown as is and only copied when the model first changes
+ * it, so publishing a new order costs O(1) however many employees there are. Appended employees
+ * are reported as an add and edited ones as an update, rather than replacing every row.
+ * </p>
+ * <p>
+ * The list cannot be modified through the {@link javafx.collections.ObservableList} methods,
+ * except {@link #setAll(Collection)}, which the table's column sorting uses to reorder it.
+ * </p>
+ *
+ * @author Zeyad "zmr15" Rashed
+ * @mailto zmr15@scarletmail.rutgers.edu
+ * @created 18 Oct 2026
+ */
+public final class EmployeeTableModel extends ObservableListBase<Employee> implements RandomAccess {
+
+    private List<Employee> employees = new ArrayList<>();
+    private boolean borrowed; // employees belongs to the caller of setEmployees and must be copied before a change
+
+    @Override
+    public Employee get(int index) {
+        return employees.get(index);
+    }
+
+    @Override
+    public int size() {
+        return employees.size();
+    }
+
+    /**
+     * Gets the shown employees, for reading them off the FX thread while the list cannot change.
+     *
+     * @return a read-only view of the shown employees, in display order
+     */
+    public List<Employee> employees() {
+        return Collections.unmodifiableList(employees);
+    }
+
+    /**
+     * Shows another list, which the model wraps without copying, and replaces every row.
+     * <p>
+     * Time Complexity: O(1) - the list is copied on the first later change instead.
+     *
+     * @param list the employees to show; the caller must not modify it afterwards
+     */
+    public void setEmployees(List<Employee> list) {
+        replace(list);
+        borrowed = true;
+    }
+
+    /**
+     * Reorders the shown list, for example after a column header was clicked.
+     *
+     * @param employees the employees in their new order
+     * @return true
+     */
+    @Override
+    public boolean setAll(Collection<? extends Employee> employees) {
+        replace(new ArrayList<>(employees));
+        borrowed = false;
+        return true;
+    }
+
+    /**
+     * Appends an employee to the shown list.
+     * <p>
+     * Time Complexity: O(1) amortized, plus O(n) once after {@link #setEmployees(List)}.
+     *
+     * @param employee the employee to append
+     */
+    public void append(Employee employee) {
+        if (borrowed) {
+            employees = new ArrayList<>(employees);
+            borrowed = false;
+        }
+        employees.add(employee);
+        beginChange();
+        nextAdd(employees.size() - 1, employees.size());
+        endChange();
+    }
+
+    /**
+     * Reports employees of the shown list whose fields changed.
+     *
+     * @param from the index of the first changed employee
+     * @param to   the index after the last changed employee
+     */
+    public void rowsUpdated(int from, int to) {
+        beginChange();
+        for (int i = from; i < to; i++) {
+            nextUpdate(i);
+        }
+        endChange();
+    }
+
+    /**
+     * Shows another list, reporting every row as replaced. The change hands the old list to the
+     * table as the removed rows instead of recording them one by one, which is safe because the
+     * model never changes a list it has replaced.
+     */
+    private void replace(List<Employee> list) {
+        List<Employee> old = employees;
+        employees = list;
+        if (!old.isEmpty() || !list.isEmpty()) fireChange(new ReplaceChange(this, Collections.unmodifiableList(old)));
+    }
+
+    /**
+     * A change that replaces every row of the list.
+     */
+    private static final class ReplaceChange extends ListChangeListener.Change<Employee> {
+        private final List<Employee> removed;
+        private boolean onChange;
+
+        ReplaceChange(EmployeeTableModel list, List<Employee> removed) {
+            super(list);
+            this.removed = removed;
+        }
+
+        @Override
+        public boolean next() {
+            if (onChange) return false;
+            onChange = true;
+            return true;
+        }
+
+        @Override
+        public void reset() {
+            onChange = false;
+        }
+
+        @Override
+        public int getFrom() {
+            if (!onChange) throw new IllegalStateException("Invalid Change state: next() must be called before inspecting the Change.");
+            return 0;
+        }
+
+        @Override
+        public int getTo() {
+            if (!onChange) throw new IllegalStateException("Invalid Change state: next() must be called before inspecting the Change.");
+            return getList().size();
+        }
+
+        @Override
+        public List<Employee> getRemoved() {
+            if (!onChange) throw new IllegalStateException("Invalid Change state: next() must be called before inspecting the Change.");
+            return removed;
+        }
+
+        @Override
+        protected int[] getPermutation() {
+            return new int[0];
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package xyz.zuner.api;
+
+import xyz.zuner.obj.Employee;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <p>21:198:335:02 Data Structures & Algorithms</p>
+ * <p>Data Structures Final Project</p>
+ * <p>Rutgers ID: 199009651</p>
+ * <br>
+ * <p>
+ * Sorts with whichever algorithm suits the input, so callers do not have to choose one:
+ * </p>
+ * <ul>
+ *     <li>insertion sort for tiny lists;</li>
+ *     <li>radix sort when the comparator is a {@link NumericKey} comparator, even behind
+ *     {@link HookedComparator} hooks (which then never run);</li>
+ *     <li>nothing, or a reversal, for lists that are already sorted or strictly descending;</li>
+ *     <li>a merge of the existing runs for nearly sorted lists, in O(n log r) for r runs;</li>
+ *     <li>{@link ParallelMergeSorter} for huge lists;</li>
+ *     <li>otherwise an introsort: quicksort that switches to heap sort when it recurses too deep,
+ *     partitioning three ways when a sample shows many duplicates.</li>
+ * </ul>
+ * <p>
+ * Runs are found with one scan of adjacent pairs; duplicate density is estimated from a sorted
+ * sample. Like {@link StackSorter#heapSort(List, Comparator)}, the result is not guaranteed to be
+ * stable, although the radix, run-merge and parallel paths are.
+ * </p>
+ *
+ * @author Zeyad "zmr15" Rashed
+ * @mailto zmr15@scarletmail.rutgers.edu
+ * @created 18 Oct 2026
+ */
+public class AdaptiveSorter implements Sortable<Employee> {
+
+    /**
+     * The algorithms the sorter can pick.
+     */
+    public enum Strategy {
+        INSERTION_SORT, RADIX_SORT, ALREADY_SORTED, REVERSE, RUN_MERGE, PARALLEL_MERGE_SORT, INTROSORT
+    }
+
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+    private static final int RUNS_PER_ELEMENT = 16; // merge existing runs when there are at most n / 16
+    private static final int SAMPLE_SIZE = 256;
+
+    private final StackSorter searcher = new StackSorter();
+    private final ParallelMergeSorter parallelSorter;
+    private final int parallelism;
+    private volatile Strategy lastStrategy;
+
+    /**
+     * Creates a sorter whose parallel path runs on the common pool.
+     */
+    public AdaptiveSorter() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a sorter whose parallel path runs on the given pool.
+     *
+     * @param pool the pool for huge lists
+     */
+    public AdaptiveSorter(ForkJoinPool pool) {
+        this.parallelSorter = new ParallelMergeSorter(ParallelMergeSorter.DEFAULT_CUTOFF, pool);
+        this.parallelism = pool.getParallelism();
+    }
+
+    /**
+     * Sorts a list with the algorithm that suits it best.
+     * <p>
+     * Time Complexity: O(n log n) in the worst case; O(n) for sorted, reversed or numeric-keyed input.
+     *
+     * @param items      the list of employees to sort
+     * @param comparator the comparator defining the sort order
+     */
+    @Override
+    public void sort(List<Employee> items, Comparator<Employee> comparator) {
+        int n = items.size();
+        Comparator<Employee> order = HookedComparator.unwrap(comparator);
+        for (NumericKey key : NumericKey.values()) {
+            if (order == key.comparator() || order == key.reversedComparator()) {
+                lastStrategy = Strategy.RADIX_SORT;
+                StackSorter.radixSort(items, key, order == key.comparator());
+                return;
+            }
+        }
+
+        Employee[] a = items.toArray(new Employee[0]);
+        if (n <= INSERTION_SORT_THRESHOLD) {
+            lastStrategy = Strategy.INSERTION_SORT;
+            insertionSort(a, 0, n, comparator);
+            writeBack(items, a);
+            return;
+        }
+
+        // find the non-descending runs, keeping their starts while there are few enough to merge
+        int maxRuns = n / RUNS_PER_ELEMENT;
+        int[] runStarts = new int[maxRuns + 2];
+        int runs = 1;
+        boolean strictlyDescending = true;
+        for (int i = 1; i < n; i++) {
+            int result = comparator.compare(a[i - 1], a[i]);
+            if (result >= 0) strictlyDescending = strictlyDescending && result > 0;
+            else strictlyDescending = false;
+            if (result > 0) {
+                if (runs <= maxRuns) runStarts[runs] = i;
+                runs++;
+            }
+        }
+
+        if (runs == 1) {
+            lastStrategy = Strategy.ALREADY_SORTED;
+            return;
+        }
+        if (strictlyDescending) {
+            lastStrategy = Strategy.REVERSE; // no equal items, so reversing is stable
+            for (int i = 0, j = n - 1; i < j; i++, j--) {
+                Employee temp = a[i];
+                a[i] = a[j];
+                a[j] = temp;
+            }
+        } else if (runs <= maxRuns) {
+            lastStrategy = Strategy.RUN_MERGE;
+            runStarts[runs] = n;
+            mergeRuns(a, runStarts, runs, comparator);
+        } else if (n >= PARALLEL_THRESHOLD && parallelism > 1) {
+            lastStrategy = Strategy.PARALLEL_MERGE_SORT;
+            parallelSorter.sort(items, comparator);
+            return;
+        } else {
+            lastStrategy = Strategy.INTROSORT;
+            int depthLimit = 2 * (32 - Integer.numberOfLeadingZeros(n));
+            introsort(a, 0, n, depthLimit, manyDuplicates(a, comparator), comparator);
+        }
+        writeBack(items, a);
+    }
+
+    @Override
+    public int binarySearch(List<Employee> items, Employee key, int low, int high) {
+        return searcher.binarySearch(items, key, low, high);
+    }
+
+    /**
+     * Gets the algorithm picked by the most recent sort on any thread, for reporting.
+     *
+     * @return the last strategy, or null if nothing was sorted yet
+     */
+    public Strategy getLastStrategy() {
+        return lastStrategy;
+    }
+
+    /**
+     * Estimates whether at least a quarter of the items equal another item, from an evenly spaced sample.
+     */
+    private static boolean manyDuplicates(Employee[] a, Comparator<Employee> comparator) {
+        int size = Math.min(SAMPLE_SIZE, a.length);
+        Employee[] sample = new Employee[size];
+        for (int i = 0; i < size; i++) {
+            sample[i] = a[(int) ((long) i * a.length / size)];
+        }
+        Arrays.sort(sample, comparator);
+        int duplicates = 0;
+        for (int i = 1; i < size; i++) {
+            if (comparator.compare(sample[i - 1], sample[i]) == 0) duplicates++;
+        }
+        return duplicates * 4 >= size;
+    }
+
+    /**
+     * Stably sorts {@code a[from, to)} by inserting every item after the greater ones before it.
+     */
+    private static void insertionSort(Employee[] a, int from, int to, Comparator<Employee> comparator) {
+        for (int i = from + 1; i < to; i++) {
+            Employee item = a[i];
+            int j = i - 1;
+            while (j >= from && comparator.compare(a[j], item) > 0) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = item;
+        }
+    }
+
+    /**
+     * Merges adjacent sorted runs pairwise until one is left. {@code starts[0, runs]} holds the
+     * start of every run followed by the end of the array.
+     */
+    private static void mergeRuns(Employee[] a, int[] starts, int runs, Comparator<Employee> comparator) {
+        Employee[] src = a;
+        Employee[] dst = new Employee[a.length];
+        while (runs > 1) {
+            int merged = 0;
+            for (int r = 0; r < runs; r += 2) {
+                int from = starts[r];
+                int mid = starts[Math.min(r + 1, runs)];
+                int to = starts[Math.min(r + 2, runs)];
+                merge(src, dst, from, mid, to, comparator);
+                starts[merged++] = from;
+            }
+            starts[merged] = a.length;
+            runs = merged;
+            Employee[] swap = src;
+            src = dst;
+            dst = swap;
+        }
+        if (src != a) System.arraycopy(src, 0, a, 0, a.length);
+    }
+
+    private static void merge(Employee[] src, Employee[] dst, int from, int mid, int to, Comparator<Employee> comparator) {
+        int left = from;
+        int right = mid;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < mid && comparator.compare(src[left], src[right]) <= 0)) {
+                dst[i] = src[left++];
+            } else {
+                dst[i] = src[right++];
+            }
+        }
+    }
+
+    /**
+     * Sorts {@code a[from, to)} with quicksort on median-of-three pivots, recursing into the
+     * smaller part only. Heap sorts a range once {@code depth} partitions did not finish it.
+     */
+    private static void introsort(Employee[] a, int from, int to, int depth, boolean threeWay, Comparator<Employee> comparator) {
+        while (to - from > INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                StackSorter.heapSort(Arrays.asList(a).subList(from, to), comparator); // sorts in place, through the array
+                return;
+            }
+
+            // move the median of three to the front, where both partitions expect the pivot
+            swap(a, from, medianOfThree(a, from, (from + to) >>> 1, to - 1, comparator));
+            Employee pivot = a[from];
+            int less;
+            int greater;
+            if (threeWay) {
+                // [from, less) < pivot, [less, i) == pivot, [greater, to) > pivot
+                less = from;
+                greater = to;
+                int i = from;
+                while (i < greater) {
+                    int result = comparator.compare(a[i], pivot);
+                    if (result < 0) swap(a, less++, i++);
+                    else if (result > 0) swap(a, i, --greater);
+                    else i++;
+                }
+            } else {
+                // Hoare partition: [from, less) <= pivot, [greater, to) >= pivot, both non-empty
+                int i = from - 1;
+                int j = to;
+                while (true) {
+                    do i++; while (comparator.compare(a[i], pivot) < 0);
+                    do j--; while (comparator.compare(a[j], pivot) > 0);
+                    if (i >= j) break;
+                    swap(a, i, j);
+                }
+                less = j + 1;
+                greater = j + 1;
+            }
+
+            if (less - from < to - greater) {
+                introsort(a, from, less, depth, threeWay, comparator);
+                from = greater;
+            } else {
+                introsort(a, greater, to, depth, threeWay, comparator);
+                to = less;
+            }
+        }
+        insertionSort(a, from, to, comparator);
+    }
+
+    /**
+     * Gets the index of the median of three items.
+     */
+    private static int medianOfThree(Employee[] a, int i, int j, int k, Comparator<Employee> comparator) {
+        if (comparator.compare(a[i], a[j]) > 0) {
+            int t = i;
+            i = j;
+            j = t;
+        }
+        if (comparator.compare(a[j], a[k]) > 0) {
+            j = k;
+            if (comparator.compare(a[i], a[j]) > 0) j = i;
+        }
+        return j;
+    }
+
+    private static void swap(Employee[] a, int i, int j) {
+        Employee temp = a[i];
+        a[i] = a[j];
+        a[j] = temp;
+    }
+
+    /**
+     * Writes a sorted snapshot back into the list in a single pass.
+     */
+    private static void writeBack(List<Employee> items, Employee[] a) {
+        ListIterator<Employee> it = items.listIterator();
+        for (Employee employee : a) {
+            it.next();
+            it.set(employee);
+        }
+    }
+}
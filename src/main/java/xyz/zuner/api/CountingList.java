@@ -0,0 +1,74 @@
+package xyz.zuner.api;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * <p>21:198:335:02 Data Structures & Algorithms</p>
+ * <p>Data Structures Final Project</p>
+ * <p>Rutgers ID: 199009651</p>
+ * <br>
+ * <p>
+ * View of a list that counts the {@code get} and {@code set} calls made through it, including
+ * those of its iterators, into a {@link SortMetrics}. Sort algorithms that see a counting list
+ * also report their swaps to it through {@link #countSwap()}. The view is {@link RandomAccess}
+ * exactly when the counted list is, so algorithms that check for it behave as they would unmeasured.
+ * </p>
+ *
+ * @author Zeyad "zmr15" Rashed
+ * @mailto zmr15@scarletmail.rutgers.edu
+ * @created 18 Oct 2026
+ */
+class CountingList<T> extends AbstractList<T> {
+
+    private final List<T> list;
+    private final SortMetrics metrics;
+
+    private CountingList(List<T> list, SortMetrics metrics) {
+        this.list = list;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Creates a counting view of a list.
+     *
+     * @param list    the list to count the accesses to
+     * @param metrics receives the counts
+     * @param <T>     the type of the items
+     * @return the view
+     */
+    static <T> CountingList<T> of(List<T> list, SortMetrics metrics) {
+        return list instanceof RandomAccess ? new RandomAccessCountingList<>(list, metrics) : new CountingList<>(list, metrics);
+    }
+
+    @Override
+    public T get(int index) {
+        metrics.countGet();
+        return list.get(index);
+    }
+
+    @Override
+    public T set(int index, T element) {
+        metrics.countSet();
+        return list.set(index, element);
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    /**
+     * Reports that the sort swapped two items of this list.
+     */
+    void countSwap() {
+        metrics.countSwap();
+    }
+
+    private static final class RandomAccessCountingList<T> extends CountingList<T> implements RandomAccess {
+        RandomAccessCountingList(List<T> list, SortMetrics metrics) {
+            super(list, metrics);
+        }
+    }
+}
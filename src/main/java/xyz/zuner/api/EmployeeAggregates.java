@@ -0,0 +1,307 @@
+package xyz.zuner.api;
+
+import xyz.zuner.obj.Employee;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * <p>21:198:335:02 Data Structures & Algorithms</p>
+ * <p>Data Structures Final Project</p>
+ * <p>Rutgers ID: 199009651</p>
+ * <br>
+ * <p>
+ * Count, sum, minimum, maximum, mean and percentiles of salary and years of service, grouped by
+ * department and/or position. The statistics are kept per (department, position) pair; grouping
+ * by only one of them merges those pairs, so every grouping comes from the same single pass.
+ * </p>
+ * <p>
+ * {@link #compute(List, ForkJoinPool)} splits the list into chunks that are aggregated on separate
+ * threads, each into its own partial aggregates, and merges the partials at the end. Employees
+ * added later are folded in with {@link #add(Employee)}, without reading the list again.
+ * </p>
+ * <p>
+ * Salaries are aggregated in whole cents and percentiles come from a {@link Histogram}, so they
+ * are within 1% of the exact value. Edits to employees that were already aggregated are not tracked.
+ * </p>
+ *
+ * @author Zeyad "zmr15" Rashed
+ * @mailto zmr15@scarletmail.rutgers.edu
+ * @created 18 Oct 2026
+ */
+public final class EmployeeAggregates {
+
+    private static final int MIN_CHUNK_SIZE = 1 << 14;
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    /**
+     * The fields employees can be grouped by.
+     */
+    public enum GroupBy {
+        DEPARTMENT, POSITION, DEPARTMENT_AND_POSITION;
+
+        private Group groupOf(String department, String position) {
+            return switch (this) {
+                case DEPARTMENT -> new Group(department, null);
+                case POSITION -> new Group(null, position);
+                case DEPARTMENT_AND_POSITION -> new Group(department, position);
+            };
+        }
+    }
+
+    /**
+     * A group of employees. Fields that are not grouped by are null.
+     *
+     * @param department the department of the group
+     * @param position   the position of the group
+     */
+    public record Group(String department, String position) {
+    }
+
+    // department -> position -> statistics, so no key object is built per employee
+    private final Map<String, Map<String, Summary>> groups = new HashMap<>();
+
+    private EmployeeAggregates() {
+    }
+
+    /**
+     * Aggregates a list of employees on the common fork/join pool.
+     *
+     * @param employees the employees
+     * @return the aggregates
+     * @see #compute(List, ForkJoinPool)
+     */
+    public static EmployeeAggregates compute(List<Employee> employees) {
+        return compute(employees, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Aggregates a list of employees. A {@link RandomAccess} list is split into chunks that are
+     * aggregated in parallel; any other list is read on the calling thread.
+     * <p>
+     * Time Complexity: O(n / p) with p workers, plus O(g) per chunk to merge g groups.
+     *
+     * @param employees the employees; must not change until this returns
+     * @param pool      the pool the chunks run on
+     * @return the aggregates
+     */
+    public static EmployeeAggregates compute(List<Employee> employees, ForkJoinPool pool) {
+        int n = employees.size();
+        int chunks = Math.max(1, Math.min(pool.getParallelism() * CHUNKS_PER_WORKER, n / MIN_CHUNK_SIZE));
+        if (chunks == 1 || !(employees instanceof RandomAccess)) {
+            EmployeeAggregates aggregates = new EmployeeAggregates();
+            for (Employee employee : employees) {
+                aggregates.record(employee);
+            }
+            return aggregates;
+        }
+
+        List<Future<EmployeeAggregates>> partials = new ArrayList<>(chunks);
+        for (int i = 0; i < chunks; i++) {
+            List<Employee> chunk = employees.subList((int) ((long) n * i / chunks), (int) ((long) n * (i + 1) / chunks));
+            partials.add(pool.submit(() -> {
+                EmployeeAggregates partial = new EmployeeAggregates();
+                for (int row = 0; row < chunk.size(); row++) {
+                    partial.record(chunk.get(row));
+                }
+                return partial;
+            }));
+        }
+
+        EmployeeAggregates aggregates = join(partials.get(0));
+        for (int i = 1; i < chunks; i++) {
+            aggregates.merge(join(partials.get(i)));
+        }
+        return aggregates;
+    }
+
+    /**
+     * Folds an employee added after the aggregates were computed into them.
+     * <p>
+     * Time Complexity: O(1) expected.
+     *
+     * @param employee the new employee
+     */
+    public synchronized void add(Employee employee) {
+        record(employee);
+    }
+
+    /**
+     * Gets the statistics of every group, ordered by department and then position.
+     *
+     * @param groupBy the fields to group by
+     * @return a copy of the statistics per group
+     */
+    public synchronized Map<Group, Summary> summarize(GroupBy groupBy) {
+        Map<Group, Summary> result = new TreeMap<>(Comparator
+                .comparing(Group::department, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+                .thenComparing(Group::position, Comparator.nullsFirst(Comparator.naturalOrder())));
+        groups.forEach((department, positions) -> positions.forEach((position, summary) ->
+                result.computeIfAbsent(groupBy.groupOf(department, position), group -> new Summary()).add(summary)));
+        return result;
+    }
+
+    /**
+     * Gets the statistics of all employees.
+     *
+     * @return a copy of the statistics over every group
+     */
+    public synchronized Summary total() {
+        Summary total = new Summary();
+        for (Map<String, Summary> positions : groups.values()) {
+            for (Summary summary : positions.values()) {
+                total.add(summary);
+            }
+        }
+        return total;
+    }
+
+    private void record(Employee employee) {
+        groups.computeIfAbsent(employee.getDepartment(), department -> new HashMap<>())
+                .computeIfAbsent(employee.getPosition(), position -> new Summary())
+                .record(employee);
+    }
+
+    private void merge(EmployeeAggregates other) {
+        other.groups.forEach((department, positions) -> positions.forEach((position, summary) ->
+                groups.computeIfAbsent(department, d -> new HashMap<>())
+                        .computeIfAbsent(position, p -> new Summary())
+                        .add(summary)));
+    }
+
+    private static EmployeeAggregates join(Future<EmployeeAggregates> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while aggregating employees", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * The statistics of one group of employees.
+     */
+    public static final class Summary {
+        private final Statistics salary = new Statistics(100); // in cents
+        private final Statistics yearsOfService = new Statistics(1);
+
+        private Summary() {
+        }
+
+        /**
+         * @return the number of employees in the group
+         */
+        public long getCount() {
+            return salary.getCount();
+        }
+
+        /**
+         * @return the salary statistics of the group
+         */
+        public Statistics getSalary() {
+            return salary;
+        }
+
+        /**
+         * @return the years of service statistics of the group
+         */
+        public Statistics getYearsOfService() {
+            return yearsOfService;
+        }
+
+        private void record(Employee employee) {
+            salary.record(Math.round(employee.getSalary() * 100));
+            yearsOfService.record(employee.getYearsOfService());
+        }
+
+        private void add(Summary other) {
+            salary.add(other.salary);
+            yearsOfService.add(other.yearsOfService);
+        }
+    }
+
+    /**
+     * Count, sum, minimum, maximum, mean and percentiles of one field. Values are kept as whole
+     * multiples of {@code 1 / scale} and reported in the field's own unit. Negative values are
+     * counted as zero by the percentiles only.
+     */
+    public static final class Statistics {
+        private final double scale;
+        private final Histogram histogram = new Histogram();
+        private long count;
+        private long sum;
+        private long min = Long.MAX_VALUE;
+        private long max = Long.MIN_VALUE;
+
+        private Statistics(double scale) {
+            this.scale = scale;
+        }
+
+        /**
+         * @return the number of values
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @return the sum of the values
+         */
+        public double getSum() {
+            return sum / scale;
+        }
+
+        /**
+         * @return the smallest value, or 0 if none
+         */
+        public double getMin() {
+            return count == 0 ? 0 : min / scale;
+        }
+
+        /**
+         * @return the largest value, or 0 if none
+         */
+        public double getMax() {
+            return count == 0 ? 0 : max / scale;
+        }
+
+        /**
+         * @return the mean of the values, or 0 if none
+         */
+        public double getMean() {
+            return count == 0 ? 0 : sum / scale / count;
+        }
+
+        /**
+         * Gets a percentile of the values, for example 50 for the median.
+         *
+         * @param percentile the percentile, from 0 to 100
+         * @return the value at the percentile, or 0 if none
+         * @see Histogram#valueAtPercentile(double)
+         */
+        public double getPercentile(double percentile) {
+            return histogram.valueAtPercentile(percentile) / scale;
+        }
+
+        private void record(long value) {
+            count++;
+            sum += value;
+            if (value < min) min = value;
+            if (value > max) max = value;
+            histogram.record(Math.max(0, value));
+        }
+
+        private void add(Statistics other) {
+            count += other.count;
+            sum += other.sum;
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+            histogram.add(other.histogram);
+        }
+    }
+}
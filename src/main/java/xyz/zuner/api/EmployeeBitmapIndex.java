@@ -0,0 +1,174 @@
+package xyz.zuner.api;
+
+import xyz.zuner.obj.Employee;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * <p>21:198:335:02 Data Structures & Algorithms</p>
+ * <p>Data Structures Final Project</p>
+ * <p>Rutgers ID: 199009651</p>
+ * <br>
+ * <p>
+ * Bitmap indexes on the department and position of a list of employees. Each distinct value
+ * has a {@link BitSet} with the bit of every row holding it set, so a filter such as
+ * "IT Analysts" is the AND of two bitsets, computed 64 rows per word operation, instead of two
+ * String comparisons per employee.
+ * </p>
+ * <p>
+ * Rows are indices into the indexed list. The index is kept current by {@link #add(Employee)} for
+ * employees appended to the list; any other change to the list needs a {@link #rebuild(List)}.
+ * Instances are not thread-safe.
+ * </p>
+ *
+ * @author Zeyad "zmr15" Rashed
+ * @mailto zmr15@scarletmail.rutgers.edu
+ * @created 18 Oct 2026
+ */
+public class EmployeeBitmapIndex {
+
+    /**
+     * The indexed fields.
+     */
+    public enum Field {
+        DEPARTMENT(Employee::getDepartment),
+        POSITION(Employee::getPosition);
+
+        private final Function<Employee, String> getter;
+
+        Field(Function<Employee, String> getter) {
+            this.getter = getter;
+        }
+    }
+
+    private final Map<Field, Map<String, BitSet>> bitmaps = new EnumMap<>(Field.class);
+    private int size;
+
+    /**
+     * Creates an empty index.
+     */
+    public EmployeeBitmapIndex() {
+        for (Field field : Field.values()) {
+            bitmaps.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with the given employees.
+     * <p>
+     * Time Complexity: O(n).
+     *
+     * @param employees the employees to index, in row order
+     */
+    public void rebuild(List<Employee> employees) {
+        for (Map<String, BitSet> values : bitmaps.values()) {
+            values.clear();
+        }
+        size = 0;
+        for (Employee employee : employees) {
+            add(employee);
+        }
+    }
+
+    /**
+     * Indexes an employee appended to the list, as the next row.
+     * <p>
+     * Time Complexity: O(1) amortized.
+     *
+     * @param employee the appended employee
+     */
+    public void add(Employee employee) {
+        int row = size++;
+        for (Field field : Field.values()) {
+            bitmaps.get(field).computeIfAbsent(field.getter.apply(employee), value -> new BitSet()).set(row);
+        }
+    }
+
+    /**
+     * @return the number of indexed rows
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the distinct values of a field, in sorted order.
+     *
+     * @param field the field
+     * @return the values found in the indexed rows
+     */
+    public SortedSet<String> values(Field field) {
+        SortedSet<String> values = new TreeSet<>(Comparator.nullsFirst(Comparator.naturalOrder()));
+        values.addAll(bitmaps.get(field).keySet());
+        return values;
+    }
+
+    /**
+     * Finds the rows whose field holds a value.
+     * <p>
+     * Time Complexity: O(n / 64).
+     *
+     * @param field the field
+     * @param value the value to match
+     * @return a new bitset of the matching rows, which the caller may combine with {@link BitSet#and(BitSet)} and {@link BitSet#or(BitSet)}
+     */
+    public BitSet rows(Field field, String value) {
+        BitSet rows = bitmaps.get(field).get(value);
+        return rows == null ? new BitSet() : (BitSet) rows.clone();
+    }
+
+    /**
+     * Finds the rows whose field holds any of the values (an OR of their bitmaps).
+     *
+     * @param field  the field
+     * @param values the values to match
+     * @return a new bitset of the matching rows
+     */
+    public BitSet rowsAnyOf(Field field, Collection<String> values) {
+        BitSet rows = new BitSet(size);
+        for (String value : values) {
+            BitSet bitmap = bitmaps.get(field).get(value);
+            if (bitmap != null) rows.or(bitmap);
+        }
+        return rows;
+    }
+
+    /**
+     * Finds the rows with a department and a position (an AND of their bitmaps). A null argument
+     * matches every row.
+     *
+     * @param department the department to match, or null for any
+     * @param position   the position to match, or null for any
+     * @return a new bitset of the matching rows
+     */
+    public BitSet rowsMatching(String department, String position) {
+        BitSet rows;
+        if (department != null) rows = rows(Field.DEPARTMENT, department);
+        else {
+            rows = new BitSet(size);
+            rows.set(0, size);
+        }
+        if (position != null) {
+            BitSet bitmap = bitmaps.get(Field.POSITION).get(position);
+            if (bitmap != null) rows.and(bitmap);
+            else rows.clear();
+        }
+        return rows;
+    }
+
+    /**
+     * Gets the employees at the set rows of a bitset.
+     *
+     * @param employees the indexed list
+     * @param rows      the rows to select
+     * @return the selected employees, in row order
+     */
+    public static List<Employee> select(List<Employee> employees, BitSet rows) {
+        List<Employee> selected = new ArrayList<>(rows.cardinality());
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+            selected.add(employees.get(row));
+        }
+        return selected;
+    }
+}
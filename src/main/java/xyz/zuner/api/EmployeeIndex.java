@@ -0,0 +1,182 @@
+package xyz.zuner.api;
+
+import xyz.zuner.obj.Employee;
+import xyz.zuner.obj.Person;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>21:198:335:02 Data Structures & Algorithms</p>
+ * <p>Data Structures Final Project</p>
+ * <p>Rutgers ID: 199009651</p>
+ * <br>
+ * <p>
+ * Hash index from employee ID to employee record, independent of the order the list is displayed in.
+ * Numeric IDs (see {@link Person#parseNumericId(String)}) are stored as primitive {@code int} keys in an
+ * open-addressing table with linear probing, so no key objects are allocated per entry. IDs in any other
+ * form, which can only come from manual input, go to a small overflow map.
+ * </p>
+ * <p>
+ * When several employees share an ID, the index holds the one that was added last.
+ * </p>
+ *
+ * @author Zeyad "zmr15" Rashed
+ * @mailto zmr15@scarletmail.rutgers.edu
+ * @created 18 Oct 2026
+ */
+public class EmployeeIndex {
+
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30; // the largest power-of-two array length
+
+    private int[] keys;
+    private Employee[] values; // a null value marks an empty slot
+    private int size;
+    private int mask;
+    private final Map<String, Employee> overflow = new HashMap<>();
+
+    /**
+     * Creates an empty index.
+     */
+    public EmployeeIndex() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty index sized to hold the given number of employees without resizing.
+     *
+     * @param expectedSize the expected number of employees
+     * @throws IllegalArgumentException if more than {@code 2^29} employees are expected
+     */
+    public EmployeeIndex(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Replaces the contents of the index with the given employees.
+     * <p>
+     * Time Complexity: O(n).
+     *
+     * @param employees the employees to index
+     * @throws IllegalArgumentException if there are more than {@code 2^29} employees
+     */
+    public void rebuild(List<Employee> employees) {
+        overflow.clear();
+        size = 0;
+        int capacity = capacityFor(employees.size());
+        if (capacity != keys.length) allocate(capacity);
+        else Arrays.fill(values, null);
+
+        for (Employee employee : employees) {
+            put(employee);
+        }
+    }
+
+    /**
+     * Adds an employee to the index, replacing any employee with the same ID.
+     * <p>
+     * Time Complexity: O(1) expected.
+     *
+     * @param employee the employee to index
+     * @throws IllegalStateException if the index already holds {@code 2^29} numeric IDs
+     */
+    public void put(Employee employee) {
+        int key = employee.getNumericId();
+        if (key < 0) {
+            overflow.put(employee.getId(), employee);
+            return;
+        }
+
+        int slot = slotOf(key);
+        if (values[slot] == null) {
+            if ((size + 1) * 2L > keys.length) {
+                if (keys.length == MAX_CAPACITY) {
+                    throw new IllegalStateException("Cannot index more than " + MAX_CAPACITY / 2 + " numeric IDs");
+                }
+                resize();
+                slot = slotOf(key);
+            }
+            keys[slot] = key;
+            size++;
+        }
+        values[slot] = employee;
+    }
+
+    /**
+     * Looks up an employee by ID.
+     * <p>
+     * Time Complexity: O(1) expected.
+     *
+     * @param id the ID to look up
+     * @return the employee with the ID, or null if there is none
+     */
+    public Employee get(String id) {
+        int key = Person.parseNumericId(id);
+        if (key < 0) return overflow.get(id);
+        return values[slotOf(key)];
+    }
+
+    /**
+     * Gets the number of distinct IDs in the index.
+     *
+     * @return the number of indexed IDs
+     */
+    public int size() {
+        return size + overflow.size();
+    }
+
+    /**
+     * Finds the slot holding the key, or the empty slot where it would be inserted.
+     */
+    private int slotOf(int key) {
+        int slot = mix(key) & mask;
+        while (values[slot] != null && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        int[] oldKeys = keys;
+        Employee[] oldValues = values;
+        allocate(keys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = slotOf(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Employee[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Returns a power-of-two capacity that keeps the load factor at or below one half.
+     */
+    private static int capacityFor(int expectedSize) {
+        if (expectedSize > MAX_CAPACITY / 2) {
+            throw new IllegalArgumentException("Cannot index more than " + MAX_CAPACITY / 2 + " employees: " + expectedSize);
+        }
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2L) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * Spreads sequential IDs across the table (Fibonacci hashing).
+     */
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
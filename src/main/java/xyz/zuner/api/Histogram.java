@@ -0,0 +1,156 @@
+package xyz.zuner.api;
+
+import java.util.Arrays;
+
+/**
+ * <p>21:198:335:02 Data Structures & Algorithms</p>
+ * <p>Data Structures Final Project</p>
+ * <p>Rutgers ID: 199009651</p>
+ * <br>
+ * <p>
+ * Counts non-negative {@code long} values in log-linear buckets, in the style of an HDR histogram.
+ * Every power of two is split into {@value #SUB_BUCKETS} equal buckets, so a percentile is reported
+ * within 1/{@value #SUB_BUCKETS} of the true value, and values below {@code 2 * SUB_BUCKETS} are
+ * counted exactly. Memory is a few kilobytes at most, whatever the number of recorded values.
+ * </p>
+ * <p>
+ * Histograms are merged by adding their counts, so partial histograms built on several threads
+ * combine into the histogram of all their values. Instances are not thread-safe.
+ * </p>
+ *
+ * @author Zeyad "zmr15" Rashed
+ * @mailto zmr15@scarletmail.rutgers.edu
+ * @created 18 Oct 2026
+ */
+public final class Histogram {
+
+    /**
+     * Number of buckets each power of two is split into.
+     */
+    public static final int SUB_BUCKETS = 128;
+
+    private static final int SUB_BUCKET_BITS = 7; // log2(SUB_BUCKETS)
+
+    private long[] counts = new long[2 * SUB_BUCKETS];
+    private long totalCount;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+
+    /**
+     * Records a value.
+     * <p>
+     * Time Complexity: O(1) amortized.
+     *
+     * @param value the value, at least zero
+     * @throws IllegalArgumentException if the value is negative
+     */
+    public void record(long value) {
+        if (value < 0) throw new IllegalArgumentException("value must not be negative: " + value);
+        int index = indexOf(value);
+        if (index >= counts.length) counts = Arrays.copyOf(counts, Math.max(index + 1, 2 * counts.length));
+        counts[index]++;
+        totalCount++;
+        if (value < min) min = value;
+        if (value > max) max = value;
+    }
+
+    /**
+     * Adds the counts of another histogram to this one.
+     *
+     * @param other the histogram to merge in; it is not changed
+     */
+    public void add(Histogram other) {
+        if (other.counts.length > counts.length) counts = Arrays.copyOf(counts, other.counts.length);
+        for (int i = 0; i < other.counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Removes every recorded value.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        min = Long.MAX_VALUE;
+        max = Long.MIN_VALUE;
+    }
+
+    /**
+     * Creates a histogram with the same counts.
+     *
+     * @return the copy
+     */
+    public Histogram copy() {
+        Histogram copy = new Histogram();
+        copy.add(this);
+        return copy;
+    }
+
+    /**
+     * @return the number of recorded values
+     */
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * @return the smallest recorded value, or 0 if none
+     */
+    public long getMin() {
+        return totalCount == 0 ? 0 : min;
+    }
+
+    /**
+     * @return the largest recorded value, or 0 if none
+     */
+    public long getMax() {
+        return totalCount == 0 ? 0 : max;
+    }
+
+    /**
+     * Gets the value below which the given percentage of the recorded values fall. The result is
+     * the largest value in the bucket that holds the percentile, capped at the recorded maximum.
+     * <p>
+     * Time Complexity: O(number of buckets).
+     *
+     * @param percentile the percentile, from 0 to 100
+     * @return the value at the percentile, or 0 if no value was recorded
+     * @throws IllegalArgumentException if the percentile is outside [0, 100]
+     */
+    public long valueAtPercentile(double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100: " + percentile);
+        }
+        if (totalCount == 0) return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.max(min, Math.min(max, lowestValueOf(i + 1) - 1));
+        }
+        return max;
+    }
+
+    /**
+     * Finds the bucket of a value. Values below {@code 2 * SUB_BUCKETS} get a bucket each; above
+     * that, every doubling of the value gets {@code SUB_BUCKETS} buckets of twice the width.
+     */
+    private static int indexOf(long value) {
+        int magnitude = Math.max(0, 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS - 1);
+        return (magnitude << SUB_BUCKET_BITS) + (int) (value >>> magnitude);
+    }
+
+    /**
+     * The smallest value that falls in a bucket; the inverse of {@link #indexOf(long)}.
+     */
+    private static long lowestValueOf(int index) {
+        if (index < 2 * SUB_BUCKETS) return index;
+        int magnitude = (index >>> SUB_BUCKET_BITS) - 1;
+        return (long) (index - (magnitude << SUB_BUCKET_BITS)) << magnitude;
+    }
+}
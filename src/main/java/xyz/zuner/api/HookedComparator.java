@@ -0,0 +1,45 @@
+package xyz.zuner.api;
+
+import java.util.Comparator;
+
+/**
+ * <p>21:198:335:02 Data Structures & Algorithms</p>
+ * <p>Data Structures Final Project</p>
+ * <p>Rutgers ID: 199009651</p>
+ * <br>
+ * <p>
+ * A comparator that runs a hook, such as counting a comparison or checking for cancellation,
+ * before every comparison of another comparator. Unlike a lambda wrapper, it keeps the wrapped
+ * comparator reachable through {@link #unwrap(Comparator)}, so a sorter such as
+ * {@link AdaptiveSorter} still recognizes a {@link NumericKey} comparator behind any number of hooks.
+ * </p>
+ *
+ * @param delegate the comparator that decides the order
+ * @param hook     runs before every comparison; may throw to stop the sort
+ * @param <T>      the type of the compared items
+ * @author Zeyad "zmr15" Rashed
+ * @mailto zmr15@scarletmail.rutgers.edu
+ * @created 18 Oct 2026
+ */
+public record HookedComparator<T>(Comparator<T> delegate, Runnable hook) implements Comparator<T> {
+
+    @Override
+    public int compare(T a, T b) {
+        hook.run();
+        return delegate.compare(a, b);
+    }
+
+    /**
+     * Removes every hook from a comparator.
+     *
+     * @param comparator a comparator, hooked or not
+     * @param <T>        the type of the compared items
+     * @return the innermost comparator
+     */
+    public static <T> Comparator<T> unwrap(Comparator<T> comparator) {
+        while (comparator instanceof HookedComparator<T> hooked) {
+            comparator = hooked.delegate();
+        }
+        return comparator;
+    }
+}
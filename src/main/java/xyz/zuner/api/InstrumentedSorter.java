@@ -0,0 +1,64 @@
+package xyz.zuner.api;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * <p>21:198:335:02 Data Structures & Algorithms</p>
+ * <p>Data Structures Final Project</p>
+ * <p>Rutgers ID: 199009651</p>
+ * <br>
+ * <p>
+ * Decorates a {@link Sortable} so that every sort is measured into a {@link SortMetrics}: its
+ * comparisons, {@code List.get} and {@code List.set} calls, and latency. Searches are passed
+ * through unmeasured.
+ * </p>
+ *
+ * @author Zeyad "zmr15" Rashed
+ * @mailto zmr15@scarletmail.rutgers.edu
+ * @created 18 Oct 2026
+ */
+public class InstrumentedSorter<T> implements Sortable<T> {
+
+    private final Sortable<T> delegate;
+    private final SortMetrics metrics;
+
+    /**
+     * Creates a decorator that measures into the registered metrics of a name.
+     *
+     * @param delegate the sorter to measure
+     * @param name     the name the metrics are registered under
+     * @see SortMetrics#forName(String)
+     */
+    public InstrumentedSorter(Sortable<T> delegate, String name) {
+        this(delegate, SortMetrics.forName(name));
+    }
+
+    /**
+     * Creates a decorator that measures into the given metrics.
+     *
+     * @param delegate the sorter to measure
+     * @param metrics  receives the costs of every sort
+     */
+    public InstrumentedSorter(Sortable<T> delegate, SortMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void sort(List<T> items, Comparator<T> comparator) {
+        metrics.measure(items, comparator, delegate::sort);
+    }
+
+    @Override
+    public int binarySearch(List<T> items, T key, int low, int high) {
+        return delegate.binarySearch(items, key, low, high);
+    }
+
+    /**
+     * @return the metrics sorts are measured into
+     */
+    public SortMetrics getMetrics() {
+        return metrics;
+    }
+}
@@ -0,0 +1,119 @@
+package xyz.zuner.api;
+
+import xyz.zuner.obj.Employee;
+import xyz.zuner.obj.EmployeeStore;
+import xyz.zuner.obj.Person;
+
+import java.util.Comparator;
+
+/**
+ * <p>21:198:335:02 Data Structures & Algorithms</p>
+ * <p>Data Structures Final Project</p>
+ * <p>Rutgers ID: 199009651</p>
+ * <br>
+ * <p>
+ * Numeric employee fields that can be sorted on primitive keys with
+ * {@link StackSorter#radixSort(java.util.List, NumericKey, boolean)}.
+ * Each key maps an employee to a {@code long} whose signed order matches the
+ * order of {@link #comparator()}.
+ * </p>
+ *
+ * @author Zeyad "zmr15" Rashed
+ * @mailto zmr15@scarletmail.rutgers.edu
+ * @created 18 Oct 2026
+ */
+public enum NumericKey {
+
+    SALARY(Comparator.comparingDouble(Employee::getSalary)) {
+        @Override
+        public long key(Employee employee) {
+            return orderedBits(employee.getSalary());
+        }
+
+        @Override
+        public long key(EmployeeStore store, int row) {
+            return orderedBits(store.getSalary(row));
+        }
+    },
+
+    YEARS_OF_SERVICE(Comparator.comparingInt(Employee::getYearsOfService)) {
+        @Override
+        public long key(Employee employee) {
+            return employee.getYearsOfService();
+        }
+
+        @Override
+        public long key(EmployeeStore store, int row) {
+            return store.getYearsOfService(row);
+        }
+    },
+
+    /**
+     * The numeric value of the ID. Only valid when {@link Person#parseNumericId(String)} accepts
+     * the ID, which {@link StackSorter#radixSort(java.util.List, NumericKey, boolean)} checks first.
+     */
+    ID(Person::compareIds) {
+        @Override
+        public long key(Employee employee) {
+            return employee.getNumericId();
+        }
+
+        @Override
+        public long key(EmployeeStore store, int row) {
+            return store.getNumericId(row);
+        }
+    };
+
+    private final Comparator<Employee> comparator;
+    private final Comparator<Employee> reversed;
+
+    NumericKey(Comparator<Employee> comparator) {
+        this.comparator = comparator;
+        this.reversed = comparator.reversed();
+    }
+
+    /**
+     * Extracts the primitive sort key of an employee.
+     *
+     * @param employee the employee
+     * @return the key, ordered the same way as {@link #comparator()}
+     */
+    public abstract long key(Employee employee);
+
+    /**
+     * Extracts the primitive sort key of a row straight from the store's columns.
+     *
+     * @param store the store
+     * @param row   the row index
+     * @return the key, ordered the same way as {@link #comparator()}
+     */
+    public abstract long key(EmployeeStore store, int row);
+
+    /**
+     * Gets the comparator equivalent to sorting on this key.
+     *
+     * @return the comparator
+     */
+    public Comparator<Employee> comparator() {
+        return comparator;
+    }
+
+    /**
+     * Gets the comparator equivalent to sorting on this key in descending order. The same
+     * instance is returned on every call, so sorters can recognize it.
+     *
+     * @return the descending comparator
+     */
+    public Comparator<Employee> reversedComparator() {
+        return reversed;
+    }
+
+    /**
+     * Maps a double to a long whose signed order matches {@link Double#compare(double, double)}
+     * by flipping the magnitude bits of negative values.
+     */
+    private static long orderedBits(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+}
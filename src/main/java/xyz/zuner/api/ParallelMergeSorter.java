@@ -0,0 +1,237 @@
+package xyz.zuner.api;
+
+import xyz.zuner.obj.Employee;
+
+import java.io.Serial;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>21:198:335:02 Data Structures & Algorithms</p>
+ * <p>Data Structures Final Project</p>
+ * <p>Rutgers ID: 199009651</p>
+ * <br>
+ * <p>
+ * Parallel merge sort for employees, run on a {@link ForkJoinPool}. The list is copied into an
+ * array snapshot, both halves of every range are sorted in parallel, and the halves are merged
+ * with a parallel (divide and conquer) merge so the final merges do not run on a single core.
+ * Ranges at or below the sequential cutoff are sorted with {@link Arrays#sort(Object[], int, int, Comparator)}.
+ * The sort is stable: equal employees keep their relative order, just like {@link List#sort(Comparator)}.
+ * </p>
+ *
+ * @author Zeyad "zmr15" Rashed
+ * @mailto zmr15@scarletmail.rutgers.edu
+ * @created 18 Oct 2026
+ */
+public class ParallelMergeSorter implements Sortable<Employee> {
+
+    /**
+     * Default number of elements below which a range is sorted sequentially.
+     */
+    public static final int DEFAULT_CUTOFF = 8192;
+
+    private final StackSorter searcher = new StackSorter();
+    private final int cutoff;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a sorter with the default cutoff that runs on the common pool.
+     */
+    public ParallelMergeSorter() {
+        this(DEFAULT_CUTOFF, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a sorter with the given cutoff that runs on the common pool.
+     *
+     * @param cutoff the range size below which sorting and merging run sequentially
+     */
+    public ParallelMergeSorter(int cutoff) {
+        this(cutoff, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a sorter with the given cutoff that runs on the given pool.
+     *
+     * @param cutoff the range size below which sorting and merging run sequentially
+     * @param pool   the pool to run the sort on
+     */
+    public ParallelMergeSorter(int cutoff, ForkJoinPool pool) {
+        if (cutoff < 2) throw new IllegalArgumentException("cutoff must be at least 2: " + cutoff);
+        this.cutoff = cutoff;
+        this.pool = pool;
+    }
+
+    /**
+     * Sorts a list of employees in parallel.
+     * <p>
+     * Time Complexity: O(n log n) work, O(log^3 n) span.
+     * Space Complexity: O(n) - the array snapshot and one scratch array.
+     *
+     * @param items      the list of employees to sort
+     * @param comparator the comparator defining the sort order
+     */
+    @Override
+    public void sort(List<Employee> items, Comparator<Employee> comparator) {
+        Employee[] a = items.toArray(new Employee[0]);
+        if (a.length <= cutoff) {
+            Arrays.sort(a, comparator);
+        } else {
+            Employee[] scratch = new Employee[a.length];
+            pool.invoke(new SortTask(a, scratch, 0, a.length, false, comparator));
+        }
+
+        // write the snapshot back in a single pass
+        ListIterator<Employee> it = items.listIterator();
+        for (Employee employee : a) {
+            it.next();
+            it.set(employee);
+        }
+    }
+
+    /**
+     * Performs a binary search for a specific employee in a list sorted by ID.
+     *
+     * @see StackSorter#binarySearch(List, Employee, int, int)
+     */
+    @Override
+    public int binarySearch(List<Employee> items, Employee key, int low, int high) {
+        return searcher.binarySearch(items, key, low, high);
+    }
+
+    /**
+     * Sorts {@code src[lo, hi)} and leaves the result in {@code dst} when {@code toDst} is set,
+     * otherwise back in {@code src}. Children always write into the array their parent merges
+     * from, so no level has to copy its result back.
+     */
+    private final class SortTask extends RecursiveAction {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final Employee[] src;
+        private final Employee[] dst;
+        private final int lo;
+        private final int hi;
+        private final boolean toDst;
+        private final transient Comparator<Employee> comparator; // tasks are never serialized
+
+        SortTask(Employee[] src, Employee[] dst, int lo, int hi, boolean toDst, Comparator<Employee> comparator) {
+            this.src = src;
+            this.dst = dst;
+            this.lo = lo;
+            this.hi = hi;
+            this.toDst = toDst;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= cutoff) {
+                Arrays.sort(src, lo, hi, comparator);
+                if (toDst) System.arraycopy(src, lo, dst, lo, hi - lo);
+                return;
+            }
+
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new SortTask(src, dst, lo, mid, !toDst, comparator),
+                    new SortTask(src, dst, mid, hi, !toDst, comparator));
+
+            // the halves are now in whichever array we are not writing into
+            Employee[] from = toDst ? src : dst;
+            Employee[] to = toDst ? dst : src;
+            new MergeTask(from, lo, mid, mid, hi, to, lo, comparator).compute();
+        }
+    }
+
+    /**
+     * Stably merges {@code from[lo1, hi1)} and {@code from[lo2, hi2)} into {@code to} starting
+     * at {@code out}. Large merges split around the median of the longer run and merge both
+     * sides in parallel.
+     */
+    private final class MergeTask extends RecursiveAction {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final Employee[] from;
+        private final int lo1;
+        private final int hi1;
+        private final int lo2;
+        private final int hi2;
+        private final Employee[] to;
+        private final int out;
+        private final transient Comparator<Employee> comparator; // tasks are never serialized
+
+        MergeTask(Employee[] from, int lo1, int hi1, int lo2, int hi2, Employee[] to, int out,
+                  Comparator<Employee> comparator) {
+            this.from = from;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.to = to;
+            this.out = out;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+            int n1 = hi1 - lo1;
+            int n2 = hi2 - lo2;
+            if (n1 + n2 <= cutoff) {
+                mergeSequential();
+                return;
+            }
+
+            int split1;
+            int split2;
+            if (n1 >= n2) {
+                // left elements before the pivot and right elements strictly less than it go first
+                split1 = (lo1 + hi1) >>> 1;
+                split2 = lowerBound(from, lo2, hi2, from[split1]);
+            } else {
+                // left elements up to and including the pivot's equals go first
+                split2 = (lo2 + hi2) >>> 1;
+                split1 = upperBound(from, lo1, hi1, from[split2]);
+            }
+            int outSplit = out + (split1 - lo1) + (split2 - lo2);
+            invokeAll(new MergeTask(from, lo1, split1, lo2, split2, to, out, comparator),
+                    new MergeTask(from, split1, hi1, split2, hi2, to, outSplit, comparator));
+        }
+
+        private void mergeSequential() {
+            int i = lo1;
+            int j = lo2;
+            int k = out;
+            while (i < hi1 && j < hi2) {
+                // take from the left run on ties to keep the merge stable
+                to[k++] = comparator.compare(from[j], from[i]) < 0 ? from[j++] : from[i++];
+            }
+            System.arraycopy(from, i, to, k, hi1 - i);
+            System.arraycopy(from, j, to, k + (hi1 - i), hi2 - j);
+        }
+
+        private int lowerBound(Employee[] a, int low, int high, Employee key) {
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (comparator.compare(a[mid], key) < 0) low = mid + 1;
+                else high = mid;
+            }
+            return low;
+        }
+
+        private int upperBound(Employee[] a, int low, int high, Employee key) {
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (comparator.compare(a[mid], key) <= 0) low = mid + 1;
+                else high = mid;
+            }
+            return low;
+        }
+    }
+}
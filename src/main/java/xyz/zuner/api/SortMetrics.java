@@ -0,0 +1,235 @@
+package xyz.zuner.api;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * <p>21:198:335:02 Data Structures & Algorithms</p>
+ * <p>Data Structures Final Project</p>
+ * <p>Rutgers ID: 199009651</p>
+ * <br>
+ * <p>
+ * Cost counters of a sort algorithm: comparisons, swaps, {@code List.get} and {@code List.set}
+ * calls, and a {@link Histogram} of the latency of every invocation. Metrics obtained from
+ * {@link #forName(String)} are registered as a JMX MBean named
+ * {@code xyz.zuner:type=SortMetrics,name=<name>}, and {@link #snapshots()} lists all of them.
+ * </p>
+ * <p>
+ * {@link #measure(List, Comparator, BiConsumer)} runs a sort over a counting view of the list
+ * with a counting {@link HookedComparator}. Swaps can only be seen by algorithms that report them, such as the
+ * static algorithms of {@link StackSorter}; other sorts count as zero swaps. The counters are
+ * safe to update from several threads, so parallel sorts can be measured.
+ * </p>
+ *
+ * @author Zeyad "zmr15" Rashed
+ * @mailto zmr15@scarletmail.rutgers.edu
+ * @created 18 Oct 2026
+ */
+public final class SortMetrics implements SortMetricsMBean {
+
+    private static final Map<String, SortMetrics> REGISTRY = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder comparisons = new LongAdder();
+    private final LongAdder swaps = new LongAdder();
+    private final LongAdder gets = new LongAdder();
+    private final LongAdder sets = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final Histogram latency = new Histogram(); // in nanoseconds, guarded by itself
+
+    /**
+     * Creates metrics that are neither registered nor listed by {@link #snapshots()}.
+     *
+     * @param name the name of the measured algorithm
+     */
+    public SortMetrics(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the registered metrics of an algorithm, creating and registering them with the
+     * platform MBean server the first time.
+     *
+     * @param name the name of the measured algorithm
+     * @return the metrics for the name
+     * @throws IllegalStateException if the MBean cannot be registered
+     */
+    public static SortMetrics forName(String name) {
+        return REGISTRY.computeIfAbsent(name, key -> {
+            SortMetrics metrics = new SortMetrics(key);
+            try {
+                ObjectName objectName = new ObjectName("xyz.zuner:type=SortMetrics,name=" + ObjectName.quote(key));
+                ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, objectName);
+            } catch (JMException e) {
+                throw new IllegalStateException("Failed to register sort metrics for " + key, e);
+            }
+            return metrics;
+        });
+    }
+
+    /**
+     * Takes a snapshot of every registered algorithm's metrics.
+     *
+     * @return the snapshots, ordered by name
+     */
+    public static List<Snapshot> snapshots() {
+        List<Snapshot> snapshots = new ArrayList<>();
+        for (SortMetrics metrics : REGISTRY.values()) {
+            snapshots.add(metrics.snapshot());
+        }
+        snapshots.sort(Comparator.comparing(Snapshot::name));
+        return snapshots;
+    }
+
+    /**
+     * Runs a sort and adds its costs and latency to these metrics.
+     *
+     * @param items      the list to sort
+     * @param comparator the sort order
+     * @param algorithm  sorts the list it is given with the comparator it is given
+     * @param <T>        the type of the items
+     */
+    public <T> void measure(List<T> items, Comparator<T> comparator, BiConsumer<List<T>, Comparator<T>> algorithm) {
+        List<T> counted = CountingList.of(items, this);
+        Comparator<T> counting = new HookedComparator<>(comparator, comparisons::increment);
+
+        long start = System.nanoTime();
+        try {
+            algorithm.accept(counted, counting);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            invocations.increment();
+            totalLatencyNanos.add(elapsed);
+            synchronized (latency) {
+                latency.record(elapsed);
+            }
+        }
+    }
+
+    void countSwap() {
+        swaps.increment();
+    }
+
+    void countGet() {
+        gets.increment();
+    }
+
+    void countSet() {
+        sets.increment();
+    }
+
+    /**
+     * Copies the current values of the metrics.
+     *
+     * @return the snapshot
+     */
+    public Snapshot snapshot() {
+        long median, p99, max;
+        synchronized (latency) {
+            median = latency.valueAtPercentile(50);
+            p99 = latency.valueAtPercentile(99);
+            max = latency.getMax();
+        }
+        return new Snapshot(name, invocations.sum(), comparisons.sum(), swaps.sum(), gets.sum(), sets.sum(),
+                getMeanLatencyNanos(), median, p99, max);
+    }
+
+    /**
+     * @return the name of the measured algorithm
+     */
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getInvocations() {
+        return invocations.sum();
+    }
+
+    @Override
+    public long getComparisons() {
+        return comparisons.sum();
+    }
+
+    @Override
+    public long getSwaps() {
+        return swaps.sum();
+    }
+
+    @Override
+    public long getGets() {
+        return gets.sum();
+    }
+
+    @Override
+    public long getSets() {
+        return sets.sum();
+    }
+
+    @Override
+    public long getMeanLatencyNanos() {
+        long count = invocations.sum();
+        return count == 0 ? 0 : totalLatencyNanos.sum() / count;
+    }
+
+    @Override
+    public long getMedianLatencyNanos() {
+        synchronized (latency) {
+            return latency.valueAtPercentile(50);
+        }
+    }
+
+    @Override
+    public long getP99LatencyNanos() {
+        synchronized (latency) {
+            return latency.valueAtPercentile(99);
+        }
+    }
+
+    @Override
+    public long getMaxLatencyNanos() {
+        synchronized (latency) {
+            return latency.getMax();
+        }
+    }
+
+    @Override
+    public void reset() {
+        invocations.reset();
+        comparisons.reset();
+        swaps.reset();
+        gets.reset();
+        sets.reset();
+        totalLatencyNanos.reset();
+        synchronized (latency) {
+            latency.reset();
+        }
+    }
+
+    /**
+     * The values of a {@link SortMetrics} at one point in time.
+     *
+     * @param name               the name of the measured algorithm
+     * @param invocations        the number of measured sorts
+     * @param comparisons        the number of comparisons
+     * @param swaps              the number of swaps reported by the algorithm
+     * @param gets               the number of {@code List.get} calls
+     * @param sets               the number of {@code List.set} calls
+     * @param meanLatencyNanos   the mean latency of a sort
+     * @param medianLatencyNanos the median latency of a sort
+     * @param p99LatencyNanos    the 99th percentile latency of a sort
+     * @param maxLatencyNanos    the longest latency of a sort
+     */
+    public record Snapshot(String name, long invocations, long comparisons, long swaps, long gets, long sets,
+                           long meanLatencyNanos, long medianLatencyNanos, long p99LatencyNanos, long maxLatencyNanos) {
+    }
+}
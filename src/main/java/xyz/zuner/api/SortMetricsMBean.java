@@ -0,0 +1,41 @@
+package xyz.zuner.api;
+
+/**
+ * <p>21:198:335:02 Data Structures & Algorithms</p>
+ * <p>Data Structures Final Project</p>
+ * <p>Rutgers ID: 199009651</p>
+ * <br>
+ * <p>
+ * JMX management interface of {@link SortMetrics}, readable from JConsole or any other JMX client.
+ * Counts are totals since the metrics were created or last reset.
+ * </p>
+ *
+ * @author Zeyad "zmr15" Rashed
+ * @mailto zmr15@scarletmail.rutgers.edu
+ * @created 18 Oct 2026
+ */
+public interface SortMetricsMBean {
+
+    long getInvocations();
+
+    long getComparisons();
+
+    long getSwaps();
+
+    long getGets();
+
+    long getSets();
+
+    long getMeanLatencyNanos();
+
+    long getMedianLatencyNanos();
+
+    long getP99LatencyNanos();
+
+    long getMaxLatencyNanos();
+
+    /**
+     * Sets every count back to zero and clears the latency histogram.
+     */
+    void reset();
+}
@@ -0,0 +1,325 @@
+package xyz.zuner.api;
+
+import xyz.zuner.obj.Employee;
+import xyz.zuner.obj.Person;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * <p>21:198:335:02 Data Structures & Algorithms</p>
+ * <p>Data Structures Final Project</p>
+ * <p>Rutgers ID: 199009651</p>
+ * <br>
+ * <p>
+ * A multi-column sort order, such as department, then position, then salary descending, that
+ * sorts on precomputed primitive keys instead of a chain of comparators. Once per sort, every
+ * column of every employee is turned into a small unsigned integer: a rank in a dictionary of the
+ * column's distinct strings, or the order-preserving bits of a number minus the column minimum.
+ * The columns are then packed into one {@code long} per employee, most significant column in the
+ * highest bits, and the (key, row) pairs are radix sorted with
+ * {@link StackSorter#sortedPermutation(long[])}. No comparator runs during the sort.
+ * </p>
+ * <p>
+ * Columns that do not fit into 63 bits together are split into groups of columns that do, and
+ * the groups are sorted from the least significant one up, which is correct because every pass
+ * is stable. The typical orders need a single pass. Sorting is stable and gives the same order as
+ * a stable sort with {@link #comparator()}. Instances are immutable and can be used as cache keys.
+ * </p>
+ *
+ * @author Zeyad "zmr15" Rashed
+ * @mailto zmr15@scarletmail.rutgers.edu
+ * @created 18 Oct 2026
+ */
+public final class SortOrder {
+
+    /**
+     * The employee fields an order can sort by.
+     */
+    public enum Column {
+        ID("ID", NumericKey.ID.comparator()),
+        NAME("Name", Employee.BY_NAME),
+        SALARY("Salary", NumericKey.SALARY.comparator()),
+        DEPARTMENT("Department", Employee.BY_DEPARTMENT),
+        POSITION("Position", Employee.BY_POSITION),
+        YEARS_OF_SERVICE("Years of Service", NumericKey.YEARS_OF_SERVICE.comparator());
+
+        private final String label;
+        private final Comparator<Employee> comparator;
+
+        Column(String label, Comparator<Employee> comparator) {
+            this.label = label;
+            this.comparator = comparator;
+        }
+
+        /**
+         * @return the ascending order of the column
+         */
+        public Comparator<Employee> comparator() {
+            return comparator;
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    /**
+     * One column of an order and its direction.
+     *
+     * @param column    the column to sort by
+     * @param ascending whether the column sorts in ascending order
+     */
+    public record Key(Column column, boolean ascending) {
+        public Key {
+            Objects.requireNonNull(column, "column");
+        }
+
+        @Override
+        public String toString() {
+            return column + (ascending ? " ascending" : " descending");
+        }
+    }
+
+    private static final int KEY_BITS = 63; // keeps packed keys non-negative
+
+    private final List<Key> keys;
+    private final Comparator<Employee> comparator;
+
+    /**
+     * Creates an order from its columns, most significant first.
+     *
+     * @param keys the columns and their directions
+     * @throws IllegalArgumentException if there are no columns or a column appears twice
+     */
+    public SortOrder(List<Key> keys) {
+        if (keys.isEmpty()) throw new IllegalArgumentException("A sort order needs at least one column");
+        Set<Column> seen = EnumSet.noneOf(Column.class);
+        Comparator<Employee> chained = null;
+        for (Key key : keys) {
+            if (!seen.add(key.column())) throw new IllegalArgumentException("Column sorted twice: " + key.column());
+            Comparator<Employee> next = key.ascending() ? key.column().comparator() : key.column().comparator().reversed();
+            chained = chained == null ? next : chained.thenComparing(next);
+        }
+        this.keys = List.copyOf(keys);
+        this.comparator = chained;
+    }
+
+    /**
+     * @return the columns of the order, most significant first
+     */
+    public List<Key> keys() {
+        return keys;
+    }
+
+    /**
+     * Gets a comparator for the same order, for code that compares single employees, such as
+     * the patching of {@link SortedViewCache}.
+     *
+     * @return the chained comparator of the columns
+     */
+    public Comparator<Employee> comparator() {
+        return comparator;
+    }
+
+    /**
+     * Computes the permutation that stably sorts a list in this order.
+     * <p>
+     * Time Complexity: O(c * n + d log d + p * n * w / 11) - c columns, d distinct strings,
+     * p passes over keys of w bits each.
+     * Space Complexity: O(c * n) - one primitive key per column and row.
+     *
+     * @param items the employees to sort
+     * @return an array whose i-th element is the index of the i-th employee in order
+     */
+    public int[] permutation(List<Employee> items) {
+        Employee[] rows = items.toArray(new Employee[0]);
+        int n = rows.length;
+        int columns = keys.size();
+        long[][] columnKeys = new long[columns][];
+        int[] widths = new int[columns];
+        for (int c = 0; c < columns; c++) {
+            columnKeys[c] = columnKeys(rows, keys.get(c));
+            widths[c] = width(columnKeys[c]);
+        }
+
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) order[i] = i;
+        long[] packed = new long[n];
+
+        // sort the groups of columns that fit into one key from the least significant up
+        int end = columns;
+        while (end > 0) {
+            int start = end - 1;
+            int bits = widths[start];
+            while (start > 0 && bits + widths[start - 1] <= KEY_BITS) bits += widths[--start];
+
+            for (int i = 0; i < n; i++) {
+                int row = order[i];
+                long key = 0;
+                for (int c = start; c < end; c++) key = (key << widths[c]) | columnKeys[c][row];
+                packed[i] = key;
+            }
+            int[] sorted = StackSorter.sortedPermutation(packed);
+            int[] next = new int[n];
+            for (int i = 0; i < n; i++) next[i] = order[sorted[i]];
+            order = next;
+            end = start;
+        }
+        return order;
+    }
+
+    /**
+     * Gets the unsigned keys of one column, ascending in the direction of the column.
+     */
+    private static long[] columnKeys(Employee[] rows, Key key) {
+        long[] keys = switch (key.column()) {
+            case ID -> idKeys(rows);
+            case NAME -> nameKeys(rows);
+            case DEPARTMENT -> rankKeys(rows, Employee::getDepartment);
+            case POSITION -> rankKeys(rows, Employee::getPosition);
+            case SALARY -> numericKeys(rows, NumericKey.SALARY);
+            case YEARS_OF_SERVICE -> numericKeys(rows, NumericKey.YEARS_OF_SERVICE);
+        };
+
+        // shift to start at zero, flipping descending columns around their maximum
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (long k : keys) {
+            if (k < min) min = k;
+            if (k > max) max = k;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = key.ascending() ? keys[i] - min : max - keys[i];
+        }
+        if (Long.compareUnsigned(max - min, 1L << KEY_BITS) >= 0) denseRank(keys); // too wide to pack even alone
+        return keys;
+    }
+
+    /**
+     * Keys IDs by their numeric value when every ID is canonical and of one width, where numeric
+     * order matches {@link String} order, by {@link Person#numericIdOrder(int)} when they are of
+     * several widths, and by their dictionary rank when some are not numeric.
+     */
+    private static long[] idKeys(Employee[] rows) {
+        long[] keys = new long[rows.length];
+        int idWidth = rows.length > 0 ? Person.numericIdWidth(rows[0].getNumericId()) : 0;
+        boolean oneWidth = true;
+        for (int i = 0; i < rows.length; i++) {
+            int id = rows[i].getNumericId();
+            if (id < 0) return rankKeys(rows, Employee::getId);
+            oneWidth &= Person.numericIdWidth(id) == idWidth;
+            keys[i] = id;
+        }
+        if (!oneWidth) {
+            for (int i = 0; i < keys.length; i++) keys[i] = Person.numericIdOrder((int) keys[i]);
+        }
+        return keys;
+    }
+
+    /**
+     * Keys names by the rank of their {@linkplain Person#nameCodes() codes} among the distinct
+     * names of the rows, without building the name strings, unless some name is not kept as codes.
+     */
+    private static long[] nameKeys(Employee[] rows) {
+        long[] keys = new long[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            keys[i] = rows[i].nameCodes();
+            if (keys[i] == Person.NO_NAME_CODES) return rankKeys(rows, Employee::getName);
+        }
+
+        long[] distinct = keys.clone();
+        Arrays.sort(distinct);
+        int size = 0;
+        for (int i = 0; i < distinct.length; i++) {
+            if (size == 0 || distinct[size - 1] != distinct[i]) distinct[size++] = distinct[i];
+        }
+        Integer[] sorted = new Integer[size];
+        for (int d = 0; d < size; d++) sorted[d] = d;
+        Arrays.sort(sorted, (x, y) -> Person.compareNameCodes(distinct[x], distinct[y]));
+        int[] rank = new int[size];
+        for (int position = 0; position < size; position++) rank[sorted[position]] = position;
+
+        for (int i = 0; i < keys.length; i++) keys[i] = rank[Arrays.binarySearch(distinct, 0, size, keys[i])];
+        return keys;
+    }
+
+    private static long[] numericKeys(Employee[] rows, NumericKey key) {
+        long[] keys = new long[rows.length];
+        for (int i = 0; i < rows.length; i++) keys[i] = key.key(rows[i]);
+        return keys;
+    }
+
+    /**
+     * Keys a string field by the rank of each value among the distinct values of the rows, with
+     * null last. Each distinct string is hashed once per row and compared only while ranking.
+     */
+    private static long[] rankKeys(Employee[] rows, Function<Employee, String> field) {
+        Map<String, Integer> codes = new HashMap<>();
+        List<String> values = new ArrayList<>();
+        int[] rowCodes = new int[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            String value = field.apply(rows[i]);
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = values.size();
+                codes.put(value, code);
+                values.add(value);
+            }
+            rowCodes[i] = code;
+        }
+
+        Integer[] sorted = new Integer[values.size()];
+        for (int code = 0; code < sorted.length; code++) sorted[code] = code;
+        Arrays.sort(sorted, Comparator.comparing(values::get, Comparator.nullsLast(Comparator.naturalOrder())));
+        int[] rank = new int[sorted.length];
+        for (int position = 0; position < sorted.length; position++) rank[sorted[position]] = position;
+
+        long[] keys = new long[rows.length];
+        for (int i = 0; i < rows.length; i++) keys[i] = rank[rowCodes[i]];
+        return keys;
+    }
+
+    /**
+     * Replaces unsigned keys by their rank among the distinct keys, keeping their order.
+     */
+    private static void denseRank(long[] keys) {
+        long[] distinct = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) distinct[i] = keys[i] ^ Long.MIN_VALUE; // unsigned to signed order
+        Arrays.sort(distinct);
+        int size = 0;
+        for (int i = 0; i < distinct.length; i++) {
+            if (size == 0 || distinct[size - 1] != distinct[i]) distinct[size++] = distinct[i];
+        }
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = Arrays.binarySearch(distinct, 0, size, keys[i] ^ Long.MIN_VALUE);
+        }
+    }
+
+    /**
+     * Gets the number of bits needed to hold the largest of non-negative keys.
+     */
+    private static int width(long[] keys) {
+        long max = 0;
+        for (long k : keys) max = Math.max(max, k);
+        return 64 - Long.numberOfLeadingZeros(max);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof SortOrder other && keys.equals(other.keys);
+    }
+
+    @Override
+    public int hashCode() {
+        return keys.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", then ");
+        for (Key key : keys) joiner.add(key.toString());
+        return joiner.toString();
+    }
+}
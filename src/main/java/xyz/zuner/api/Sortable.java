@@ -1,7 +1,11 @@
 package xyz.zuner.api;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
 
 /**
  * <p>21:198:335:02 Data Structures & Algorithms</p>
@@ -35,4 +39,319 @@ public interface Sortable<T> {
      * @return the index of the item, or -1 if not found
      */
     int binarySearch(List<T> items, T key, int low, int high);
-}
\ No newline at end of file
+
+    /**
+     * Finds the first position in a sorted list whose key is not less than the given key.
+     * The search is iterative and compares the bare key against the key extracted from each
+     * probed item, so no placeholder item has to be built for the search.
+     * <p>
+     * Time Complexity: O(log n) on a {@link java.util.RandomAccess} list.
+     * Space Complexity: O(1).
+     *
+     * @param items        the list, sorted by {@code keyExtractor} and {@code comparator}
+     * @param key          the key to search for
+     * @param keyExtractor extracts the sort key from an item
+     * @param comparator   the order the list is sorted in
+     * @param <K>          the type of the sort key
+     * @return the index of the first item whose key is {@code >= key}, or {@code items.size()} if none
+     */
+    default <K> int lowerBound(List<T> items, K key, Function<? super T, ? extends K> keyExtractor,
+                               Comparator<? super K> comparator) {
+        int low = 0;
+        int high = items.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(keyExtractor.apply(items.get(mid)), key) < 0) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    /**
+     * Finds the first position in a sorted list whose key is greater than the given key.
+     *
+     * @param items        the list, sorted by {@code keyExtractor} and {@code comparator}
+     * @param key          the key to search for
+     * @param keyExtractor extracts the sort key from an item
+     * @param comparator   the order the list is sorted in
+     * @param <K>          the type of the sort key
+     * @return the index of the first item whose key is {@code > key}, or {@code items.size()} if none
+     * @see #lowerBound(List, Object, Function, Comparator)
+     */
+    default <K> int upperBound(List<T> items, K key, Function<? super T, ? extends K> keyExtractor,
+                               Comparator<? super K> comparator) {
+        int low = 0;
+        int high = items.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(keyExtractor.apply(items.get(mid)), key) <= 0) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    /**
+     * Finds the range of items in a sorted list whose key equals the given key.
+     *
+     * @param items        the list, sorted by {@code keyExtractor} and {@code comparator}
+     * @param key          the key to search for
+     * @param keyExtractor extracts the sort key from an item
+     * @param comparator   the order the list is sorted in
+     * @param <K>          the type of the sort key
+     * @return {@code {from, to}}, the half-open range of matching indices (empty when {@code from == to})
+     */
+    default <K> int[] equalRange(List<T> items, K key, Function<? super T, ? extends K> keyExtractor,
+                                 Comparator<? super K> comparator) {
+        return new int[]{
+                lowerBound(items, key, keyExtractor, comparator),
+                upperBound(items, key, keyExtractor, comparator)
+        };
+    }
+
+    /**
+     * Searches for an item with the given key in a sorted list.
+     *
+     * @param items        the list, sorted by {@code keyExtractor} and {@code comparator}
+     * @param key          the key to search for
+     * @param keyExtractor extracts the sort key from an item
+     * @param comparator   the order the list is sorted in
+     * @param <K>          the type of the sort key
+     * @return the index of the first item with the key, or -1 if not found
+     */
+    default <K> int binarySearch(List<T> items, K key, Function<? super T, ? extends K> keyExtractor,
+                                 Comparator<? super K> comparator) {
+        int index = lowerBound(items, key, keyExtractor, comparator);
+        if (index < items.size() && comparator.compare(keyExtractor.apply(items.get(index)), key) == 0) {
+            return index;
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the first position in a list sorted by a numeric key whose key is not less than the given key.
+     * Works on primitive keys, so nothing is boxed per probe.
+     * <p>
+     * For example, the employees with a salary in [60k, 70k) of a salary-sorted list are the ones
+     * between {@code lowerBound(items, 60000, Employee::getSalary)} and
+     * {@code lowerBound(items, 70000, Employee::getSalary)}.
+     *
+     * @param items        the list, sorted ascending by {@code keyExtractor}
+     * @param key          the key to search for
+     * @param keyExtractor extracts the numeric sort key from an item
+     * @return the index of the first item whose key is {@code >= key}, or {@code items.size()} if none
+     */
+    default int lowerBound(List<T> items, double key, ToDoubleFunction<? super T> keyExtractor) {
+        int low = 0;
+        int high = items.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Double.compare(keyExtractor.applyAsDouble(items.get(mid)), key) < 0) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    /**
+     * Finds the first position in a list sorted by a numeric key whose key is greater than the given key.
+     *
+     * @param items        the list, sorted ascending by {@code keyExtractor}
+     * @param key          the key to search for
+     * @param keyExtractor extracts the numeric sort key from an item
+     * @return the index of the first item whose key is {@code > key}, or {@code items.size()} if none
+     * @see #lowerBound(List, double, ToDoubleFunction)
+     */
+    default int upperBound(List<T> items, double key, ToDoubleFunction<? super T> keyExtractor) {
+        int low = 0;
+        int high = items.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Double.compare(keyExtractor.applyAsDouble(items.get(mid)), key) <= 0) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    /**
+     * Finds the range of items in a list sorted by a numeric key whose key equals the given key.
+     *
+     * @param items        the list, sorted ascending by {@code keyExtractor}
+     * @param key          the key to search for
+     * @param keyExtractor extracts the numeric sort key from an item
+     * @return {@code {from, to}}, the half-open range of matching indices (empty when {@code from == to})
+     */
+    default int[] equalRange(List<T> items, double key, ToDoubleFunction<? super T> keyExtractor) {
+        return new int[]{lowerBound(items, key, keyExtractor), upperBound(items, key, keyExtractor)};
+    }
+
+    /**
+     * Selects the first {@code k} items in comparator order, for example the 50 best-paid
+     * employees with a descending salary comparator. A bounded max-heap of the best {@code k}
+     * items seen so far is kept while the list is read once; the list itself is neither copied
+     * nor reordered.
+     * <p>
+     * Equal items are ranked by their position in the list, so the result is the same as the
+     * first {@code k} items of a stable sort.
+     * <p>
+     * Time Complexity: O(n log k).
+     * Space Complexity: O(k).
+     *
+     * @param items      the list to select from
+     * @param k          how many items to select
+     * @param comparator the ranking, best first
+     * @return the selected items, best first
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    @SuppressWarnings("unchecked")
+    default List<T> topK(List<T> items, int k, Comparator<T> comparator) {
+        if (k < 0) throw new IllegalArgumentException("k must not be negative: " + k);
+        k = Math.min(k, items.size());
+        Object[] heap = new Object[k];
+        int[] order = new int[k]; // list positions of the heap items, to break ties
+        int size = 0;
+        int position = 0;
+        for (T item : items) {
+            if (size < k) {
+                // sift the new item up
+                int i = size++;
+                while (i > 0) {
+                    int parent = (i - 1) >>> 1;
+                    if (comparator.compare((T) heap[parent], item) > 0) break; // on ties the later item is worse
+                    heap[i] = heap[parent];
+                    order[i] = order[parent];
+                    i = parent;
+                }
+                heap[i] = item;
+                order[i] = position;
+            } else if (k > 0 && comparator.compare(item, (T) heap[0]) < 0) {
+                // better than the worst kept item, which it replaces
+                heap[0] = item;
+                order[0] = position;
+                siftDown(heap, order, 0, k, comparator);
+            }
+            position++;
+        }
+
+        // pop the worst item into the last free slot until the heap is empty
+        Object[] ranked = new Object[k];
+        for (int end = k - 1; end >= 0; end--) {
+            ranked[end] = heap[0];
+            heap[0] = heap[end];
+            order[0] = order[end];
+            siftDown(heap, order, 0, end, comparator);
+        }
+        List<T> result = new ArrayList<>(k);
+        for (Object item : ranked) {
+            result.add((T) item);
+        }
+        return result;
+    }
+
+    /**
+     * Moves the item that a sort would place at index {@code n} there, with no greater item
+     * before it and no smaller item after it. Uses quickselect with a three-way partition, so
+     * runs of equal items do not slow it down; a range that keeps splitting badly is sorted instead.
+     * <p>
+     * Time Complexity: O(n) on average and O(n log n) in the worst case, on a {@link java.util.RandomAccess} list.
+     * Space Complexity: O(1).
+     *
+     * @param items      the list to reorder
+     * @param n          the index to fill
+     * @param comparator the sort order
+     * @throws IndexOutOfBoundsException if {@code n} is not an index of the list
+     */
+    default void nthElement(List<T> items, int n, Comparator<T> comparator) {
+        Objects.checkIndex(n, items.size());
+        int low = 0;
+        int high = items.size();
+        int budget = 2 * (32 - Integer.numberOfLeadingZeros(high)); // partitions allowed before sorting instead
+        while (high - low > 1) {
+            if (high - low <= 16 || budget-- == 0) { // small or badly split ranges are sorted
+                sort(items.subList(low, high), comparator);
+                return;
+            }
+
+            T pivot = medianOfThree(items.get(low), items.get((low + high) >>> 1), items.get(high - 1), comparator);
+
+            // [low, less) < pivot, [less, i) == pivot, [greater, high) > pivot
+            int less = low;
+            int i = low;
+            int greater = high;
+            while (i < greater) {
+                int result = comparator.compare(items.get(i), pivot);
+                if (result < 0) swap(items, less++, i++);
+                else if (result > 0) swap(items, i, --greater);
+                else i++;
+            }
+
+            if (n < less) high = less;
+            else if (n >= greater) low = greater;
+            else return; // n holds an item equal to the pivot
+        }
+    }
+
+    /**
+     * Sorts the first {@code k} items of the list into place, leaving the rest in no particular
+     * order. The list is split around index {@code k - 1} with {@link #nthElement(List, int, Comparator)},
+     * then only the first part is sorted.
+     * <p>
+     * Time Complexity: O(n + k log k) on average, on a {@link java.util.RandomAccess} list.
+     *
+     * @param items      the list to reorder
+     * @param k          how many items to sort into place
+     * @param comparator the sort order
+     * @throws IllegalArgumentException if {@code k} is negative or greater than the size of the list
+     */
+    default void partialSort(List<T> items, int k, Comparator<T> comparator) {
+        if (k < 0 || k > items.size()) {
+            throw new IllegalArgumentException("k must be between 0 and " + items.size() + ": " + k);
+        }
+        if (k == 0) return;
+        if (k < items.size()) nthElement(items, k - 1, comparator);
+        sort(items.subList(0, k), comparator);
+    }
+
+    /**
+     * Moves the item at {@code i} of a max-heap of {@code size} items down to its place. Items
+     * compare by comparator, then by list position.
+     */
+    private static <T> void siftDown(Object[] heap, int[] order, int i, int size, Comparator<T> comparator) {
+        Object item = heap[i];
+        int position = order[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) break;
+            if (child + 1 < size && greater(heap[child + 1], order[child + 1], heap[child], order[child], comparator)) {
+                child++;
+            }
+            if (!greater(heap[child], order[child], item, position, comparator)) break;
+            heap[i] = heap[child];
+            order[i] = order[child];
+            i = child;
+        }
+        heap[i] = item;
+        order[i] = position;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> boolean greater(Object a, int orderA, Object b, int orderB, Comparator<T> comparator) {
+        int result = comparator.compare((T) a, (T) b);
+        return result > 0 || (result == 0 && orderA > orderB);
+    }
+
+    private static <T> T medianOfThree(T a, T b, T c, Comparator<T> comparator) {
+        if (comparator.compare(a, b) > 0) {
+            T t = a;
+            a = b;
+            b = t;
+        }
+        if (comparator.compare(b, c) > 0) {
+            b = c;
+            if (comparator.compare(a, b) > 0) b = a;
+        }
+        return b;
+    }
+
+    private static <T> void swap(List<T> items, int i, int j) {
+        items.set(i, items.set(j, items.get(i)));
+    }
+}
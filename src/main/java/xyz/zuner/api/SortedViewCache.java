@@ -0,0 +1,282 @@
+package xyz.zuner.api;
+
+import xyz.zuner.obj.Employee;
+import xyz.zuner.obj.Person;
+
+import java.util.*;
+
+/**
+ * <p>21:198:335:02 Data Structures & Algorithms</p>
+ * <p>Data Structures Final Project</p>
+ * <p>Rutgers ID: 199009651</p>
+ * <br>
+ * <p>
+ * Caches sorted orders of a base list of employees. One ascending permutation of row indices is
+ * kept per sort key; descending order is the same permutation read backwards, so toggling the
+ * direction of a cached sort costs nothing. Views are read-only lists over the base list and the
+ * permutation, and do not copy the employees.
+ * </p>
+ * <p>
+ * Cached permutations are patched when rows are appended to the base list or edited: a changed
+ * row is moved to its new place with a binary search, in O(n) time for the array shift but only
+ * O(log n) comparisons. Permutations are replaced rather than changed in place, so views handed
+ * out earlier keep their order.
+ * </p>
+ * <p>
+ * Ascending orders are stable (equal employees stay in base order). Descending views list equal
+ * employees in reverse base order, which is where they differ from a stable descending sort.
+ * </p>
+ *
+ * @author Zeyad "zmr15" Rashed
+ * @mailto zmr15@scarletmail.rutgers.edu
+ * @created 18 Oct 2026
+ */
+public class SortedViewCache {
+
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    private final List<Employee> base;
+    private final Map<Object, Entry> entries = new HashMap<>();
+
+    /**
+     * Creates an empty cache over a base list. Changes to the base list must be reported through
+     * {@link #added(int)}, {@link #updated(int)} or {@link #invalidate()}.
+     *
+     * @param base the employees in their base (for example insertion) order
+     */
+    public SortedViewCache(List<Employee> base) {
+        this.base = base;
+    }
+
+    /**
+     * Checks whether the order for a key is cached.
+     *
+     * @param key a {@link NumericKey}, a {@link SortOrder} or the name given to {@link #view(Object, Comparator, boolean)}
+     * @return true if getting a view for the key will not sort
+     */
+    public synchronized boolean isCached(Object key) {
+        return entries.containsKey(key);
+    }
+
+    /**
+     * Gets the base list sorted by a numeric field. A missing order is computed with a radix sort
+     * on the primitive keys.
+     * <p>
+     * Time Complexity: O(1) if cached, otherwise O(n * w / 11) like {@link StackSorter#radixSort(List, NumericKey, boolean)}.
+     *
+     * @param key       the numeric field
+     * @param ascending whether to list in ascending order
+     * @return a read-only view of the sorted employees
+     */
+    public synchronized List<Employee> view(NumericKey key, boolean ascending) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            entry = new Entry(key.comparator(), numericPermutation(key));
+            entries.put(key, entry);
+        }
+        return new PermutedView(entry.permutation, !ascending);
+    }
+
+    /**
+     * Gets the base list sorted by several columns. A missing order is computed on packed
+     * primitive keys, and later patched with the order's comparator.
+     * <p>
+     * Time Complexity: O(1) if cached, otherwise like {@link StackSorter#sort(List, SortOrder)}.
+     *
+     * @param order     the columns to sort by
+     * @param ascending whether to list in the order, or in the order read backwards
+     * @return a read-only view of the sorted employees
+     */
+    public synchronized List<Employee> view(SortOrder order, boolean ascending) {
+        Entry entry = entries.get(order);
+        if (entry == null) {
+            entry = new Entry(order.comparator(), order.permutation(base));
+            entries.put(order, entry);
+        }
+        return new PermutedView(entry.permutation, !ascending);
+    }
+
+    /**
+     * Gets the base list sorted by a comparator. A missing order is computed with a stable
+     * merge sort of row indices.
+     * <p>
+     * Time Complexity: O(1) if cached, otherwise O(n log n).
+     *
+     * @param name       identifies the order in the cache; the same name must always come with an equivalent comparator
+     * @param comparator the ascending order
+     * @param ascending  whether to list in ascending order
+     * @return a read-only view of the sorted employees
+     */
+    public synchronized List<Employee> view(Object name, Comparator<Employee> comparator, boolean ascending) {
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            int[] permutation = identity(base.size());
+            mergeSort(permutation, comparator);
+            entry = new Entry(comparator, permutation);
+            entries.put(name, entry);
+        }
+        return new PermutedView(entry.permutation, !ascending);
+    }
+
+    /**
+     * Patches every cached order after employees were appended to the base list.
+     *
+     * @param from the base index of the first appended employee
+     */
+    public synchronized void added(int from) {
+        for (Entry entry : entries.values()) {
+            for (int row = from; row < base.size(); row++) {
+                entry.permutation = insert(entry.permutation, entry.permutation.length, row, entry.comparator);
+            }
+        }
+    }
+
+    /**
+     * Patches every cached order after an employee of the base list was edited.
+     *
+     * @param row the base index of the edited employee
+     */
+    public synchronized void updated(int row) {
+        for (Entry entry : entries.values()) {
+            int[] permutation = entry.permutation;
+            int position = 0;
+            while (permutation[position] != row) position++;
+
+            // remove the row, then insert it where it now belongs
+            int[] removed = new int[permutation.length];
+            System.arraycopy(permutation, 0, removed, 0, position);
+            System.arraycopy(permutation, position + 1, removed, position, permutation.length - position - 1);
+            entry.permutation = insert(removed, permutation.length - 1, row, entry.comparator);
+        }
+    }
+
+    /**
+     * Drops every cached order, for changes that cannot be patched (such as removals).
+     */
+    public synchronized void invalidate() {
+        entries.clear();
+    }
+
+    private int[] numericPermutation(NumericKey key) {
+        int n = base.size();
+        long[] keys = new long[n];
+        int idWidth = n > 0 && key == NumericKey.ID ? Person.numericIdWidth(base.get(0).getNumericId()) : 0;
+        for (int i = 0; i < n; i++) {
+            long k = key.key(base.get(i));
+            if (key == NumericKey.ID && (k < 0 || Person.numericIdWidth((int) k) != idWidth)) {
+                // numeric order only matches String order for canonical IDs of one width
+                int[] permutation = identity(n);
+                mergeSort(permutation, key.comparator());
+                return permutation;
+            }
+            keys[i] = k;
+        }
+        return StackSorter.sortedPermutation(keys);
+    }
+
+    /**
+     * Inserts a row into the first {@code length} entries of a permutation, after every row that
+     * comes before it in (comparator, row index) order, and returns the result in a new array.
+     */
+    private int[] insert(int[] permutation, int length, int row, Comparator<Employee> comparator) {
+        Employee employee = base.get(row);
+        int low = 0;
+        int high = length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int other = permutation[mid];
+            int result = comparator.compare(base.get(other), employee);
+            if (result < 0 || (result == 0 && other < row)) low = mid + 1;
+            else high = mid;
+        }
+
+        int[] inserted = new int[length + 1];
+        System.arraycopy(permutation, 0, inserted, 0, low);
+        inserted[low] = row;
+        System.arraycopy(permutation, low, inserted, low + 1, length - low);
+        return inserted;
+    }
+
+    private static int[] identity(int n) {
+        int[] permutation = new int[n];
+        for (int i = 0; i < n; i++) permutation[i] = i;
+        return permutation;
+    }
+
+    /**
+     * Stably sorts row indices by the employees they point to, without boxing the indices.
+     */
+    private void mergeSort(int[] rows, Comparator<Employee> comparator) {
+        mergeSort(rows, rows.clone(), 0, rows.length, comparator);
+    }
+
+    /**
+     * Sorts {@code dst[from, to)}, using {@code src[from, to)} (which holds the same rows) as scratch space.
+     */
+    private void mergeSort(int[] dst, int[] src, int from, int to, Comparator<Employee> comparator) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                int row = dst[i];
+                Employee employee = base.get(row);
+                int j = i - 1;
+                while (j >= from && comparator.compare(base.get(dst[j]), employee) > 0) {
+                    dst[j + 1] = dst[j];
+                    j--;
+                }
+                dst[j + 1] = row;
+            }
+            return;
+        }
+
+        int mid = (from + to) >>> 1;
+        mergeSort(src, dst, from, mid, comparator);
+        mergeSort(src, dst, mid, to, comparator);
+
+        int left = from;
+        int right = mid;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < mid && comparator.compare(base.get(src[left]), base.get(src[right])) <= 0)) {
+                dst[i] = src[left++];
+            } else {
+                dst[i] = src[right++];
+            }
+        }
+    }
+
+    /**
+     * A cached ascending order.
+     */
+    private static final class Entry {
+        private final Comparator<Employee> comparator;
+        private int[] permutation;
+
+        Entry(Comparator<Employee> comparator, int[] permutation) {
+            this.comparator = comparator;
+            this.permutation = permutation;
+        }
+    }
+
+    /**
+     * The base list read through a permutation, forwards or backwards.
+     */
+    private final class PermutedView extends AbstractList<Employee> implements RandomAccess {
+        private final int[] permutation;
+        private final boolean reversed;
+
+        PermutedView(int[] permutation, boolean reversed) {
+            this.permutation = permutation;
+            this.reversed = reversed;
+        }
+
+        @Override
+        public Employee get(int index) {
+            Objects.checkIndex(index, permutation.length);
+            return base.get(permutation[reversed ? permutation.length - 1 - index : index]);
+        }
+
+        @Override
+        public int size() {
+            return permutation.length;
+        }
+    }
+}
@@ -1,9 +1,15 @@
 package xyz.zuner.api;
 
 import xyz.zuner.obj.Employee;
+import xyz.zuner.obj.EmployeeStore;
+import xyz.zuner.obj.Person;
 
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+import java.util.function.BiConsumer;
 
 /**
  * <p>21:198:335:02 Data Structures & Algorithms</p>
@@ -13,7 +19,7 @@ import java.util.List;
  * <p>
  * Handles sorting logic for a stack of employees. Allows sorting by any category dynamically.
  * Provides multiple sorting algorithms for educational purposes, including Bubble Sort,
- * Selection Sort, and Heap Sort. Implements the {@link Sortable} interface for general sorting functionality.
+ * Selection Sort, Heap Sort, and Radix Sort for numeric keys. Implements the {@link Sortable} interface for general sorting functionality.
  * </p>
  *
  * @author Zeyad "zmr15" Rashed
@@ -22,6 +28,11 @@ import java.util.List;
  */
 public class StackSorter implements Sortable<Employee> {
 
+    /**
+     * Number of key bits consumed by each pass of {@link #radixSort(List, NumericKey, boolean)}.
+     */
+    private static final int RADIX_BITS = 11;
+
     /**
      * Performs Bubble Sort on a list of employees.
      * <p>
@@ -36,9 +47,7 @@ public class StackSorter implements Sortable<Employee> {
         for (int i = 0; i < n - 1; i++) {
             for (int j = 0; j < n - i - 1; j++) {
                 if (comparator.compare(items.get(j), items.get(j + 1)) > 0) {
-                    Employee temp = items.get(j);
-                    items.set(j, items.get(j + 1));
-                    items.set(j + 1, temp);
+                    swap(items, j, j + 1);
                 }
             }
         }
@@ -62,67 +71,277 @@ public class StackSorter implements Sortable<Employee> {
                     minIdx = j;
                 }
             }
-            Employee temp = items.get(minIdx);
-            items.set(minIdx, items.get(i));
-            items.set(i, temp);
+            swap(items, minIdx, i);
         }
     }
 
     /**
      * Performs Heap Sort on a list of employees.
      * <p>
-     * Time Complexity: O(n log n) - due to heap construction and repeated heapify calls.
-     * Space Complexity: O(1) - in-place sorting.
+     * Sifting is iterative and bottom-up (Floyd's variant): the hole left at the root descends
+     * to a leaf along the larger children with one comparison per level, and the displaced item
+     * is then sifted up from there, usually only a level or two. This needs about half the
+     * comparisons of the classic sift-down. A list without {@link RandomAccess} is copied into an
+     * array first and written back in a single pass, so a {@link java.util.LinkedList} sorts in
+     * O(n log n) as well.
+     * <p>
+     * Time Complexity: O(n log n) - for every list type.
+     * Space Complexity: O(1) for a {@link RandomAccess} list, O(n) otherwise - for the array copy.
      *
      * @param items      the list of employees to sort
      * @param comparator the comparator defining the sort order
      */
     public static void heapSort(List<Employee> items, Comparator<Employee> comparator) {
-        int n = items.size();
+        List<Employee> heap = items instanceof RandomAccess ? items : Arrays.asList(items.toArray(new Employee[0]));
+        int n = heap.size();
 
         // build heap
         for (int i = n / 2 - 1; i >= 0; i--) {
-            heapify(items, n, i, comparator);
+            siftDown(heap, i, n, heap.get(i), comparator);
         }
 
-        // extract elements from heap one by one
-        for (int i = n - 1; i > 0; i--) {
-            Employee temp = items.get(0);
-            items.set(0, items.get(i));
-            items.set(i, temp);
+        // move the largest item behind the heap, then refill the root with the item it displaced
+        for (int end = n - 1; end > 0; end--) {
+            Employee displaced = heap.get(end);
+            heap.set(end, heap.get(0));
+            if (items instanceof CountingList<?> counting) counting.countSwap();
+            siftDown(heap, 0, end, displaced, comparator);
+        }
 
-            heapify(items, i, 0, comparator);
+        if (heap != items) {
+            ListIterator<Employee> it = items.listIterator();
+            for (Employee employee : heap) {
+                it.next();
+                it.set(employee);
+            }
         }
     }
 
     /**
-     * Heapifies a subtree rooted at the given index.
+     * Places an item into a heap whose slot {@code hole} is free, bottom-up: the hole descends to a
+     * leaf along the larger children, then the item climbs back towards {@code hole} to its place.
      * <p>
-     * Time Complexity: O(log n) - due to traversal along the height of the heap.
+     * Time Complexity: O(log n) - about one comparison per level on the way down.
      *
-     * @param items      the list of employees
+     * @param heap       the list holding the heap
+     * @param hole       the free slot, the root of the subtree to fill
      * @param n          the size of the heap
-     * @param i          the root index
+     * @param item       the item to place
      * @param comparator the comparator defining the sort order
      */
-    private static void heapify(List<Employee> items, int n, int i, Comparator<Employee> comparator) {
-        int largest = i;
-        int left = 2 * i + 1;
-        int right = 2 * i + 2;
+    private static void siftDown(List<Employee> heap, int hole, int n, Employee item, Comparator<Employee> comparator) {
+        int top = hole;
+        int child;
+        while ((child = 2 * hole + 1) < n) {
+            if (child + 1 < n && comparator.compare(heap.get(child + 1), heap.get(child)) > 0) child++;
+            heap.set(hole, heap.get(child));
+            hole = child;
+        }
+        while (hole > top) {
+            int parent = (hole - 1) >>> 1;
+            Employee above = heap.get(parent);
+            if (comparator.compare(item, above) <= 0) break;
+            heap.set(hole, above);
+            hole = parent;
+        }
+        heap.set(hole, item);
+    }
+
+    /**
+     * Swaps two employees of a list, and reports the swap when the list is being measured.
+     */
+    private static void swap(List<Employee> items, int i, int j) {
+        Employee temp = items.get(i);
+        items.set(i, items.get(j));
+        items.set(j, temp);
+        if (items instanceof CountingList<?> counting) counting.countSwap();
+    }
+
+    /**
+     * Wraps one of the static sort algorithms, such as {@link #heapSort(List, Comparator)}, so that
+     * every call is measured: comparisons, swaps, {@code List.get} and {@code List.set} calls and latency.
+     *
+     * @param algorithm the algorithm to measure
+     * @param metrics   receives the costs of every call
+     * @return the measured algorithm
+     * @see SortMetrics#measure(List, Comparator, BiConsumer)
+     */
+    public static BiConsumer<List<Employee>, Comparator<Employee>> instrumented(
+            BiConsumer<List<Employee>, Comparator<Employee>> algorithm, SortMetrics metrics) {
+        return (items, comparator) -> metrics.measure(items, comparator, algorithm);
+    }
+
+    /**
+     * Performs an LSD Radix Sort on a numeric employee field.
+     * <p>
+     * The keys are extracted once into a primitive array and sorted together with the
+     * original indices, {@value #RADIX_BITS} bits per pass. Passes in which every key has the
+     * same digit are skipped, so small key ranges (such as years of service) need only one pass.
+     * The sort is stable, and a descending sort keeps equal employees in their original order,
+     * exactly like sorting with {@code key.comparator().reversed()}.
+     * <p>
+     * IDs are only sorted numerically when every ID is in canonical numeric form and has the
+     * same width, since only then does numeric order match {@link String} order. Otherwise
+     * this falls back to sorting with the ID comparator.
+     * <p>
+     * Time Complexity: O(n * w / {@value #RADIX_BITS}) - w is the bit width of the key range.
+     * Space Complexity: O(n) - key, index and output buffers.
+     *
+     * @param items     the list of employees to sort
+     * @param key       the numeric field to sort by
+     * @param ascending whether to sort in ascending order
+     */
+    public static void radixSort(List<Employee> items, NumericKey key, boolean ascending) {
+        Employee[] snapshot = items.toArray(new Employee[0]);
+        int n = snapshot.length;
+        long[] keys = new long[n];
+
+        int idWidth = n > 0 && key == NumericKey.ID ? Person.numericIdWidth(snapshot[0].getNumericId()) : 0;
+        for (int i = 0; i < n; i++) {
+            long k = key.key(snapshot[i]);
+            if (key == NumericKey.ID && (k < 0 || Person.numericIdWidth((int) k) != idWidth)) {
+                items.sort(ascending ? key.comparator() : key.comparator().reversed());
+                return;
+            }
+            keys[i] = ascending ? k : ~k; // bitwise not reverses signed order without overflow
+        }
+
+        int[] order = sortedPermutation(keys);
+
+        // apply the permutation in a single pass
+        ListIterator<Employee> it = items.listIterator();
+        for (int index : order) {
+            it.next();
+            it.set(snapshot[index]);
+        }
+    }
+
+    /**
+     * Sorts a list by several columns on packed primitive keys, without comparing employees.
+     * The sort is stable, like sorting with {@code order.comparator()}.
+     * <p>
+     * Time Complexity: O(n) per radix pass plus O(d log d) for the d distinct strings of the columns.
+     * Space Complexity: O(n) per column - the primitive keys and the permutation.
+     *
+     * @param items the list of employees to sort
+     * @param order the columns to sort by, most significant first
+     * @see SortOrder#permutation(List)
+     */
+    public static void sort(List<Employee> items, SortOrder order) {
+        Employee[] snapshot = items.toArray(new Employee[0]);
+        ListIterator<Employee> it = items.listIterator();
+        for (int index : order.permutation(Arrays.asList(snapshot))) {
+            it.next();
+            it.set(snapshot[index]);
+        }
+    }
+
+    /**
+     * Performs an LSD Radix Sort on a numeric column of a columnar store, reading the keys
+     * straight from the primitive columns and reordering the rows in place.
+     * <p>
+     * Time Complexity: O(n * w / {@value #RADIX_BITS}) - w is the bit width of the key range.
+     * Space Complexity: O(n) - key, index and column buffers.
+     *
+     * @param store     the store to sort
+     * @param key       the numeric field to sort by
+     * @param ascending whether to sort in ascending order
+     * @see #radixSort(List, NumericKey, boolean)
+     */
+    public static void radixSort(EmployeeStore store, NumericKey key, boolean ascending) {
+        int n = store.size();
+        long[] keys = new long[n];
 
-        if (left < n && comparator.compare(items.get(left), items.get(largest)) > 0) {
-            largest = left;
+        int idWidth = n > 0 && key == NumericKey.ID ? Person.numericIdWidth(store.getNumericId(0)) : 0;
+        for (int row = 0; row < n; row++) {
+            long k = key.key(store, row);
+            if (key == NumericKey.ID && (k < 0 || Person.numericIdWidth((int) k) != idWidth)) {
+                sort(store, ascending ? key.comparator() : key.comparator().reversed());
+                return;
+            }
+            keys[row] = ascending ? k : ~k;
         }
-        if (right < n && comparator.compare(items.get(right), items.get(largest)) > 0) {
-            largest = right;
+        store.permute(sortedPermutation(keys));
+    }
+
+    /**
+     * Sorts the rows of a columnar store with a comparator over row views.
+     * <p>
+     * Time Complexity: O(n log n) - due to TimSort.
+     * Space Complexity: O(n) - one view per row and the row permutation.
+     *
+     * @param store      the store to sort
+     * @param comparator the comparator defining the sort order
+     */
+    public static void sort(EmployeeStore store, Comparator<Employee> comparator) {
+        int n = store.size();
+        Employee[] views = new Employee[n];
+        for (int row = 0; row < n; row++) views[row] = store.view(row);
+        Arrays.sort(views, comparator);
+
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) order[i] = store.rowOf(views[i]);
+        store.permute(order);
+    }
+
+    /**
+     * Computes the permutation that stably sorts the given keys in signed ascending order,
+     * using an LSD Radix Sort on the (key, index) pairs. The keys array is left unchanged.
+     * <p>
+     * Time Complexity: O(n * w / {@value #RADIX_BITS}) - w is the bit width of the key range.
+     * Space Complexity: O(n) - two key buffers and two index buffers.
+     *
+     * @param keys the keys to sort
+     * @return an array whose i-th element is the index of the i-th smallest key
+     */
+    public static int[] sortedPermutation(long[] keys) {
+        int n = keys.length;
+        int[] index = new int[n];
+        for (int i = 0; i < n; i++) index[i] = i;
+        if (n < 2) return index;
+
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (long k : keys) {
+            if (k < min) min = k;
+            if (k > max) max = k;
         }
-        if (largest != i) {
-            Employee temp = items.get(i);
-            items.set(i, items.get(largest));
-            items.set(largest, temp);
 
-            heapify(items, n, largest, comparator);
+        // sort on the offset from the minimum, which is non-negative when read as unsigned
+        long range = max - min;
+        long[] src = new long[n];
+        for (int i = 0; i < n; i++) src[i] = keys[i] - min;
+        long[] dst = new long[n];
+        int[] indexDst = new int[n];
+        int[] count = new int[1 << RADIX_BITS];
+        int mask = (1 << RADIX_BITS) - 1;
+
+        for (int shift = 0; shift < 64 && (range >>> shift) != 0; shift += RADIX_BITS) {
+            Arrays.fill(count, 0);
+            for (int i = 0; i < n; i++) count[(int) (src[i] >>> shift) & mask]++;
+            if (count[(int) (src[0] >>> shift) & mask] == n) continue; // every key has the same digit
+
+            // turn the counts into starting offsets
+            int offset = 0;
+            for (int d = 0; d < count.length; d++) {
+                int c = count[d];
+                count[d] = offset;
+                offset += c;
+            }
+            for (int i = 0; i < n; i++) {
+                int pos = count[(int) (src[i] >>> shift) & mask]++;
+                dst[pos] = src[i];
+                indexDst[pos] = index[i];
+            }
+
+            long[] swapKeys = src;
+            src = dst;
+            dst = swapKeys;
+            int[] swapIndex = index;
+            index = indexDst;
+            indexDst = swapIndex;
         }
+        return index;
     }
 
     /**
@@ -141,10 +360,11 @@ public class StackSorter implements Sortable<Employee> {
     }
 
     /**
-     * Performs a binary search for a specific employee in a sorted list.
+     * Performs a binary search for a specific employee in a list sorted by ID.
+     * To search on any other key, use {@link #binarySearch(List, Object, java.util.function.Function, Comparator)}.
      * <p>
      * Time Complexity: O(log n) - due to repeated halving of the search range.
-     * Space Complexity: O(log n) - due to recursion stack.
+     * Space Complexity: O(1) - iterative.
      *
      * @param items the list of employees to search
      * @param key   the employee to search for
@@ -154,13 +374,14 @@ public class StackSorter implements Sortable<Employee> {
      */
     @Override
     public int binarySearch(List<Employee> items, Employee key, int low, int high) {
-        if (low > high) return -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = Person.compareIds(key, items.get(mid));
 
-        int mid = (low + high) / 2;
-        int comparison = key.getId().compareTo(items.get(mid).getId());
-
-        if (comparison == 0) return mid;
-        else if (comparison < 0) return binarySearch(items, key, low, mid - 1);
-        else return binarySearch(items, key, mid + 1, high);
+            if (comparison == 0) return mid;
+            else if (comparison < 0) high = mid - 1;
+            else low = mid + 1;
+        }
+        return -1;
     }
 }
\ No newline at end of file
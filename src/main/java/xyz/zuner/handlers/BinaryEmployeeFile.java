@@ -0,0 +1,361 @@
+package xyz.zuner.handlers;
+
+import xyz.zuner.obj.Employee;
+import xyz.zuner.obj.Person;
+import xyz.zuner.obj.StringDictionary;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>21:198:335:02 Data Structures & Algorithms</p>
+ * <p>Data Structures Final Project</p>
+ * <p>Rutgers ID: 199009651</p>
+ * <br>
+ * <p>
+ * Compact binary employee file with fixed-width records, so record {@code i} can be read without
+ * reading the records before it. Numbers are stored in binary, departments and positions as codes
+ * into dictionaries in the header, and names in a string heap that the records point into. Numeric
+ * IDs (see {@link Person#parseNumericId(String)}) are stored inline in the record; other IDs go to
+ * the heap. Repeated names are written to the heap once and shared by every record that uses them.
+ * All values are big-endian.
+ * </p>
+ * <pre>
+ * header       int magic "EMPB", short version, short record size, int record count, int reserved,
+ *              long records offset, long heap offset
+ * dictionaries int department count, (int length, UTF-8 bytes)..., same for positions
+ * records      double salary, int years of service, short department, short position,
+ *              long ID (~numeric ID, or heap offset), long name heap offset            (32 bytes each)
+ * heap         (int length, UTF-8 bytes)..., new entries in record order
+ * </pre>
+ *
+ * @author Zeyad "zmr15" Rashed
+ * @mailto zmr15@scarletmail.rutgers.edu
+ * @created 18 Oct 2026
+ */
+public final class BinaryEmployeeFile implements Closeable {
+
+    private static final int MAGIC = 0x454D5042; // "EMPB"
+    private static final short VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int RECORD_SIZE = 32;
+    private static final int MAX_DICTIONARY_SIZE = 1 << 16;
+    private static final int NAME_CACHE_SIZE = 1 << 16;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final int recordCount;
+    private final long recordsOffset;
+    private final long heapOffset;
+    private final String[] departments;
+    private final String[] positions;
+
+    private BinaryEmployeeFile(Path path, FileChannel channel) throws IOException {
+        this.path = path;
+        this.channel = channel;
+
+        ByteBuffer header = read(0, HEADER_SIZE);
+        if (header.getInt() != MAGIC) throw new IOException("Not an employee binary file");
+        short version = header.getShort();
+        if (version != VERSION) throw new IOException("Unsupported employee binary file version " + version);
+        if (header.getShort() != RECORD_SIZE) throw new IOException("Unexpected record size");
+        recordCount = header.getInt();
+        header.getInt(); // reserved
+        recordsOffset = header.getLong();
+        heapOffset = header.getLong();
+
+        ByteBuffer dictionaries = read(HEADER_SIZE, (int) (recordsOffset - HEADER_SIZE));
+        departments = readDictionary(dictionaries);
+        positions = readDictionary(dictionaries);
+    }
+
+    /**
+     * Opens a binary employee file for random access.
+     *
+     * @param path the file to open
+     * @return the opened file
+     * @throws IOException if the file cannot be read or is not a supported binary employee file
+     */
+    public static BinaryEmployeeFile open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new BinaryEmployeeFile(path, channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the number of records in the file.
+     *
+     * @return the record count
+     */
+    public int size() {
+        return recordCount;
+    }
+
+    /**
+     * Reads a single record.
+     * <p>
+     * Time Complexity: O(1) - one read for the record and one per string.
+     *
+     * @param index the record index
+     * @return the employee stored at the index
+     * @throws IOException if an I/O error occurs
+     */
+    public Employee read(int index) throws IOException {
+        if (index < 0 || index >= recordCount) {
+            throw new IndexOutOfBoundsException("Record " + index + " out of bounds for size " + recordCount);
+        }
+        ByteBuffer record = read(recordsOffset + (long) index * RECORD_SIZE, RECORD_SIZE);
+        double salary = record.getDouble();
+        int yearsOfService = record.getInt();
+        String department = departments[Short.toUnsignedInt(record.getShort())];
+        String position = positions[Short.toUnsignedInt(record.getShort())];
+        long idRef = record.getLong();
+        String id = idRef < 0 ? Person.formatNumericId((int) ~idRef) : readHeapString(idRef);
+        String name = readHeapString(record.getLong());
+        return new Employee(id, name, salary, department, position, yearsOfService);
+    }
+
+    /**
+     * Reads every record. Files up to 2 GB are mapped and parsed in one pass; larger files
+     * stream the record table and the string heap side by side.
+     *
+     * @return the employees in file order
+     * @throws IOException if an I/O error occurs
+     */
+    public List<Employee> readAll() throws IOException {
+        List<Employee> employees = new ArrayList<>(recordCount);
+        Map<Long, String> names = new HashMap<>(); // shared names, so repeated names share one instance
+        long size = channel.size();
+        if (size <= Integer.MAX_VALUE) {
+            MappedByteBuffer file = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            for (int i = 0; i < recordCount; i++) {
+                int record = (int) (recordsOffset + (long) i * RECORD_SIZE);
+                double salary = file.getDouble(record);
+                int yearsOfService = file.getInt(record + 8);
+                String department = departments[Short.toUnsignedInt(file.getShort(record + 12))];
+                String position = positions[Short.toUnsignedInt(file.getShort(record + 14))];
+                long idRef = file.getLong(record + 16);
+                String id = idRef < 0 ? Person.formatNumericId((int) ~idRef) : heapString(file, (int) idRef);
+                long nameOffset = file.getLong(record + 24);
+                String name = names.get(nameOffset);
+                if (name == null) {
+                    name = heapString(file, (int) nameOffset);
+                    if (names.size() < NAME_CACHE_SIZE) names.put(nameOffset, name);
+                }
+                employees.add(new Employee(id, name, salary, department, position, yearsOfService));
+            }
+            return employees;
+        }
+
+        // too large to map at once: new heap entries appear in record order, so stream the records and
+        // the heap side by side, and only seek for names that point back at an earlier entry
+        try (DataInputStream records = stream(recordsOffset); DataInputStream heap = stream(heapOffset)) {
+            long heapPosition = heapOffset;
+            for (int i = 0; i < recordCount; i++) {
+                double salary = records.readDouble();
+                int yearsOfService = records.readInt();
+                String department = departments[records.readUnsignedShort()];
+                String position = positions[records.readUnsignedShort()];
+                long idRef = records.readLong();
+                long nameOffset = records.readLong();
+
+                String id;
+                if (idRef < 0) {
+                    id = Person.formatNumericId((int) ~idRef);
+                } else {
+                    id = readString(heap);
+                    heapPosition = idRef + 4 + id.getBytes(StandardCharsets.UTF_8).length;
+                }
+
+                String name;
+                if (nameOffset == heapPosition) {
+                    name = readString(heap);
+                    heapPosition += 4 + name.getBytes(StandardCharsets.UTF_8).length;
+                    if (names.size() < NAME_CACHE_SIZE) names.put(nameOffset, name);
+                } else {
+                    name = names.get(nameOffset);
+                    if (name == null) name = readHeapString(nameOffset);
+                }
+                employees.add(new Employee(id, name, salary, department, position, yearsOfService));
+            }
+        }
+        return employees;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Writes employees to a binary file, replacing it if it exists.
+     *
+     * @param path      the file to write
+     * @param employees the employees to write
+     * @throws IOException if an I/O error occurs, or there are more than 65536 distinct departments or positions
+     */
+    public static void write(Path path, List<Employee> employees) throws IOException {
+        StringDictionary departments = new StringDictionary();
+        StringDictionary positions = new StringDictionary();
+        for (Employee employee : employees) {
+            departments.encode(employee.getDepartment());
+            positions.encode(employee.getPosition());
+        }
+        if (departments.size() > MAX_DICTIONARY_SIZE || positions.size() > MAX_DICTIONARY_SIZE) {
+            throw new IOException("Too many distinct departments or positions for the binary format");
+        }
+
+        long dictionariesSize = dictionarySize(departments) + dictionarySize(positions);
+        long recordsOffset = (HEADER_SIZE + dictionariesSize + 7) & ~7L; // align the records to 8 bytes
+        long heapOffset = recordsOffset + (long) employees.size() * RECORD_SIZE;
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                Channels.newOutputStream(FileChannel.open(path, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeShort(RECORD_SIZE);
+            out.writeInt(employees.size());
+            out.writeInt(0);
+            out.writeLong(recordsOffset);
+            out.writeLong(heapOffset);
+
+            writeDictionary(out, departments);
+            writeDictionary(out, positions);
+            for (long i = HEADER_SIZE + dictionariesSize; i < recordsOffset; i++) out.writeByte(0);
+
+            // records first, remembering which names are new heap entries so the heap pass writes exactly those
+            Map<String, Long> nameOffsets = new HashMap<>();
+            BitSet newNames = new BitSet(employees.size());
+            long heapPosition = heapOffset;
+            int index = 0;
+            for (Employee employee : employees) {
+                out.writeDouble(employee.getSalary());
+                out.writeInt(employee.getYearsOfService());
+                out.writeShort(departments.encode(employee.getDepartment()));
+                out.writeShort(positions.encode(employee.getPosition()));
+
+                int numericId = employee.getNumericId();
+                if (numericId >= 0) {
+                    out.writeLong(~(long) numericId);
+                } else {
+                    out.writeLong(heapPosition);
+                    heapPosition += 4 + utf8Length(employee.getId());
+                }
+
+                Long nameOffset = nameOffsets.get(employee.getName());
+                if (nameOffset == null) {
+                    nameOffset = heapPosition;
+                    heapPosition += 4 + utf8Length(employee.getName());
+                    newNames.set(index);
+                    if (nameOffsets.size() < NAME_CACHE_SIZE) nameOffsets.put(employee.getName(), nameOffset);
+                }
+                out.writeLong(nameOffset);
+                index++;
+            }
+
+            index = 0;
+            for (Employee employee : employees) {
+                if (employee.getNumericId() < 0) writeString(out, employee.getId());
+                if (newNames.get(index++)) writeString(out, employee.getName());
+            }
+        }
+    }
+
+    private ByteBuffer read(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Unexpected end of employee binary file");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private DataInputStream stream(long position) throws IOException {
+        FileChannel streamChannel = FileChannel.open(path, StandardOpenOption.READ).position(position);
+        return new DataInputStream(new BufferedInputStream(Channels.newInputStream(streamChannel), 1 << 16));
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private String readHeapString(long offset) throws IOException {
+        int length = read(offset, 4).getInt();
+        return new String(read(offset + 4, length).array(), StandardCharsets.UTF_8);
+    }
+
+    private static String heapString(ByteBuffer file, int offset) {
+        byte[] bytes = new byte[file.getInt(offset)];
+        file.get(offset + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String[] readDictionary(ByteBuffer buffer) {
+        String[] values = new String[buffer.getInt()];
+        for (int i = 0; i < values.length; i++) {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            values[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return values;
+    }
+
+    private static void writeDictionary(DataOutputStream out, StringDictionary dictionary) throws IOException {
+        out.writeInt(dictionary.size());
+        for (int code = 0; code < dictionary.size(); code++) {
+            writeString(out, dictionary.decode(code));
+        }
+    }
+
+    private static long dictionarySize(StringDictionary dictionary) {
+        long size = 4;
+        for (int code = 0; code < dictionary.size(); code++) {
+            size += 4 + utf8Length(dictionary.decode(code));
+        }
+        return size;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Computes the UTF-8 encoded length of a string without encoding it. Unpaired surrogates
+     * count as one byte, since {@link String#getBytes(java.nio.charset.Charset)} replaces them with '?'.
+     */
+    private static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) length++;
+            else if (c < 0x800) length += 2;
+            else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) length++;
+            else length += 3;
+        }
+        return length;
+    }
+}
@@ -0,0 +1,94 @@
+package xyz.zuner.handlers;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * <p>21:198:335:02 Data Structures & Algorithms</p>
+ * <p>Data Structures Final Project</p>
+ * <p>Rutgers ID: 199009651</p>
+ * <br>
+ * <p>
+ * Canonicalizes strings read straight from a byte buffer. Repeated byte sequences (departments,
+ * positions, common names) map to one shared {@link String} instance, and only the first occurrence
+ * is decoded. The pool stops growing at a fixed number of entries, after which new values are decoded
+ * but not cached, so high-cardinality columns cannot blow it up. Not thread-safe.
+ * </p>
+ *
+ * @author Zeyad "zmr15" Rashed
+ * @mailto zmr15@scarletmail.rutgers.edu
+ * @created 18 Oct 2026
+ */
+final class ByteStringPool {
+
+    private final int maxEntries;
+    private byte[][] keys = new byte[64][];
+    private String[] values = new String[64];
+    private int size;
+
+    /**
+     * Creates a pool that caches at most the given number of distinct strings.
+     *
+     * @param maxEntries the maximum number of cached strings
+     */
+    ByteStringPool(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Gets the string for the UTF-8 bytes {@code buffer[offset, offset + length)}.
+     *
+     * @param buffer the buffer to read from (absolute positions, the buffer position is not changed)
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return the shared string instance for the bytes
+     */
+    String get(ByteBuffer buffer, int offset, int length) {
+        int hash = 1;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + buffer.get(offset + i);
+        }
+
+        int mask = keys.length - 1;
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        while (keys[slot] != null) {
+            if (matches(keys[slot], buffer, offset, length)) return values[slot];
+            slot = (slot + 1) & mask;
+        }
+
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes, 0, length);
+        String value = new String(bytes, StandardCharsets.UTF_8);
+        if (size < maxEntries) {
+            keys[slot] = bytes;
+            values[slot] = value;
+            if (++size * 2 > keys.length) resize();
+        }
+        return value;
+    }
+
+    private static boolean matches(byte[] key, ByteBuffer buffer, int offset, int length) {
+        if (key.length != length) return false;
+        for (int i = 0; i < length; i++) {
+            if (key[i] != buffer.get(offset + i)) return false;
+        }
+        return true;
+    }
+
+    private void resize() {
+        byte[][] oldKeys = keys;
+        String[] oldValues = values;
+        keys = new byte[oldKeys.length * 2][];
+        values = new String[oldKeys.length * 2];
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == null) continue;
+            int hash = Arrays.hashCode(oldKeys[i]); // same hash as get() computes
+            int slot = (hash ^ (hash >>> 16)) & mask;
+            while (keys[slot] != null) slot = (slot + 1) & mask;
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package xyz.zuner.handlers;
 
+import xyz.zuner.api.Sortable;
 import xyz.zuner.obj.Employee;
+import xyz.zuner.obj.EmployeeStore;
 
 import java.io.*;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Random;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * <p>21:198:335:02 Data Structures & Algorithms</p>
@@ -24,10 +31,6 @@ import java.util.Random;
 public class EmployeeFileHandler {
 
     private static final String MAIN_FILE_NAME = "Employee.txt";
-    private static final Random RANDOM = new Random();
-
-    private static final String[] DEPARTMENTS = {"Accounting", "IT", "HR", "Marketing", "Operations"};
-    private static final String[] POSITIONS = {"Manager", "Technician", "Analyst", "Clerk", "Supervisor"};
 
     /**
      * Populates the "Employee.txt" file with randomly generated employees
@@ -36,13 +39,22 @@ public class EmployeeFileHandler {
      * @throws IOException if an I/O error occurs
      */
     public static void populateFileWithRandomEmployees(int count) throws IOException {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(MAIN_FILE_NAME))) {
-            for (int i = 0; i < count; i++) {
-                Employee employee = generateRandomEmployee();
-                writeEmployeeToFile(writer, employee);
-            }
-        }
-        System.out.println("Generated " + count + " random employees and saved to " + MAIN_FILE_NAME);
+        populateFileWithRandomEmployees(MAIN_FILE_NAME, count, System.nanoTime());
+    }
+
+    /**
+     * Populates a file with randomly generated employees with unique IDs. The same seed and
+     * count always give the same file.
+     *
+     * @param filename the file to write
+     * @param count    the number of random employees to generate
+     * @param seed     the random seed
+     * @throws IOException if an I/O error occurs
+     * @see EmployeeGenerator
+     */
+    public static void populateFileWithRandomEmployees(String filename, long count, long seed) throws IOException {
+        new EmployeeGenerator().seed(seed).write(Path.of(filename), count);
+        System.out.println("Generated " + count + " random employees and saved to " + filename);
     }
 
     /**
@@ -54,21 +66,175 @@ public class EmployeeFileHandler {
      */
     public static List<Employee> loadEmployeesFromFile(String filename) throws IOException {
         List<Employee> employees = new ArrayList<>();
-        BufferedReader reader = new BufferedReader(new FileReader(filename));
-        String line;
-        while ((line = reader.readLine()) != null) {
-            String id = line;
-            String name = reader.readLine();
-            double salary = Double.parseDouble(reader.readLine());
-            String department = reader.readLine();
-            String position = reader.readLine();
-            int yearsOfService = Integer.parseInt(reader.readLine());
-            employees.add(new Employee(id, name, salary, department, position, yearsOfService));
+        try (BufferedReader reader = new BufferedReader(new FileReader(filename))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String id = line;
+                String name = reader.readLine();
+                double salary = Double.parseDouble(reader.readLine());
+                String department = reader.readLine();
+                String position = reader.readLine();
+                int yearsOfService = Integer.parseInt(reader.readLine());
+                employees.add(new Employee(id, name, salary, department, position, yearsOfService));
+            }
         }
-        reader.close();
         return employees;
     }
 
+    /**
+     * Opens a lazy stream over the employees in a file. Records are parsed only as the stream
+     * consumes them, so counting, filtering or taking the first few records runs in constant
+     * memory. The stream holds the file open and must be closed, for example with try-with-resources.
+     *
+     * @param filename the file to read employees from
+     * @return a sequential, ordered stream of the employees in file order, which throws an
+     * {@link UncheckedIOException} if reading fails or the file ends inside a record
+     * @throws IOException if the file cannot be opened
+     * @see #saveEmployeesToFile(String, Stream)
+     */
+    public static Stream<Employee> streamEmployeesFromFile(String filename) throws IOException {
+        EmployeeRecordIterator iterator = new EmployeeRecordIterator(new BufferedReader(new FileReader(filename)));
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    try {
+                        iterator.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    /**
+     * Loads employees from a file by memory-mapping it and parsing the bytes directly.
+     * Returns the same list as {@link #loadEmployeesFromFile(String)}, but without a string
+     * per line, and with departments and positions sharing one string instance per value.
+     *
+     * @param filename the file to load employees from
+     * @return a list of employees in file order
+     * @throws IOException if an I/O error occurs or a record is truncated
+     */
+    public static List<Employee> loadEmployeesMapped(String filename) throws IOException {
+        List<Employee> employees = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(Path.of(filename), StandardOpenOption.READ)) {
+            new MappedEmployeeReader(channel).readRange(0, channel.size(), employees);
+        }
+        return employees;
+    }
+
+    /**
+     * Loads employees from a file on all cores of the common pool.
+     *
+     * @param filename the file to load employees from
+     * @return a list of employees in file order, the same as {@link #loadEmployeesFromFile(String)} returns
+     * @throws IOException if an I/O error occurs or a record is truncated
+     * @see #loadEmployeesParallel(String, ForkJoinPool)
+     */
+    public static List<Employee> loadEmployeesParallel(String filename) throws IOException {
+        return loadEmployeesParallel(filename, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Loads employees from a file in parallel. The file is split into byte ranges that are
+     * realigned to record boundaries and parsed on the given pool, and the results are joined
+     * in file order.
+     *
+     * @param filename the file to load employees from
+     * @param pool     the pool to parse on
+     * @return a list of employees in file order, the same as {@link #loadEmployeesFromFile(String)} returns
+     * @throws IOException if an I/O error occurs or a record is truncated
+     */
+    public static List<Employee> loadEmployeesParallel(String filename, ForkJoinPool pool) throws IOException {
+        return ParallelEmployeeLoader.load(Path.of(filename), pool);
+    }
+
+    /**
+     * Saves employees to a binary file.
+     *
+     * @param filename  the name of the file
+     * @param employees the list of employees to save
+     * @throws IOException if an I/O error occurs
+     * @see BinaryEmployeeFile
+     */
+    public static void saveEmployeesToBinaryFile(String filename, List<Employee> employees) throws IOException {
+        BinaryEmployeeFile.write(Path.of(filename), employees);
+    }
+
+    /**
+     * Loads every employee from a binary file.
+     *
+     * @param filename the binary file to load employees from
+     * @return a list of employees in file order
+     * @throws IOException if an I/O error occurs or the file is not a supported binary employee file
+     * @see BinaryEmployeeFile
+     */
+    public static List<Employee> loadEmployeesFromBinaryFile(String filename) throws IOException {
+        try (BinaryEmployeeFile file = BinaryEmployeeFile.open(Path.of(filename))) {
+            return file.readAll();
+        }
+    }
+
+    /**
+     * Reads a single employee from a binary file without loading the others. To read many
+     * records, keep a {@link BinaryEmployeeFile} open instead.
+     *
+     * @param filename the binary file
+     * @param index    the record index
+     * @return the employee at the index
+     * @throws IOException if an I/O error occurs or the file is not a supported binary employee file
+     */
+    public static Employee readEmployeeFromBinaryFile(String filename, int index) throws IOException {
+        try (BinaryEmployeeFile file = BinaryEmployeeFile.open(Path.of(filename))) {
+            return file.read(index);
+        }
+    }
+
+    /**
+     * Converts a text employee file to the binary format.
+     *
+     * @param textFilename   the text file to read
+     * @param binaryFilename the binary file to write
+     * @throws IOException if an I/O error occurs
+     */
+    public static void convertTextToBinary(String textFilename, String binaryFilename) throws IOException {
+        saveEmployeesToBinaryFile(binaryFilename, loadEmployeesParallel(textFilename));
+    }
+
+    /**
+     * Converts a binary employee file to the text format.
+     *
+     * @param binaryFilename the binary file to read
+     * @param textFilename   the text file to write
+     * @throws IOException if an I/O error occurs
+     */
+    public static void convertBinaryToText(String binaryFilename, String textFilename) throws IOException {
+        saveEmployeesToFile(textFilename, loadEmployeesFromBinaryFile(binaryFilename));
+    }
+
+    /**
+     * Loads employees from a file straight into a columnar store, without building an
+     * {@link Employee} object per record.
+     *
+     * @param filename the file to load employees from
+     * @return a store holding one row per employee
+     * @throws IOException if an I/O error occurs
+     */
+    public static EmployeeStore loadEmployeesIntoStore(String filename) throws IOException {
+        EmployeeStore store = new EmployeeStore();
+        try (BufferedReader reader = new BufferedReader(new FileReader(filename))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String id = line;
+                String name = reader.readLine();
+                double salary = Double.parseDouble(reader.readLine());
+                String department = reader.readLine();
+                String position = reader.readLine();
+                int yearsOfService = Integer.parseInt(reader.readLine());
+                store.add(id, name, salary, department, position, yearsOfService);
+            }
+        }
+        return store;
+    }
+
     /**
      * Saves employees to a file
      *
@@ -84,6 +250,57 @@ public class EmployeeFileHandler {
         }
     }
 
+    /**
+     * Sorts an employee file into another file without loading it into memory at once.
+     *
+     * @param inputFilename  the file to sort
+     * @param outputFilename the file to write the sorted employees to
+     * @param comparator     the sort order
+     * @param sorter         sorts every in-memory run
+     * @throws IOException if an I/O error occurs
+     * @see ExternalEmployeeSorter
+     */
+    public static void sortEmployeeFile(String inputFilename, String outputFilename, Comparator<Employee> comparator, Sortable<Employee> sorter) throws IOException {
+        new ExternalEmployeeSorter(sorter).sort(Path.of(inputFilename), Path.of(outputFilename), comparator);
+    }
+
+    /**
+     * Starts tracking an employee file for incremental saves. Later saves through the returned
+     * file write only the employees whose setters were called since the previous save.
+     *
+     * @param filename  the employee file
+     * @param employees the employees loaded from the file, in file order
+     * @return the tracked file
+     * @throws IOException if the file cannot be read
+     * @see IncrementalEmployeeFile
+     */
+    public static IncrementalEmployeeFile trackEmployeeFile(String filename, List<Employee> employees) throws IOException {
+        return IncrementalEmployeeFile.track(Path.of(filename), employees);
+    }
+
+    /**
+     * Saves a stream of employees to a file as they arrive, without collecting them first.
+     * The stream is closed afterwards, which also closes a file stream it was built from.
+     *
+     * @param filename  the name of the file
+     * @param employees the employees to save
+     * @return the number of employees written
+     * @throws IOException if an I/O error occurs
+     */
+    public static long saveEmployeesToFile(String filename, Stream<Employee> employees) throws IOException {
+        long count = 0;
+        try (employees; BufferedWriter writer = new BufferedWriter(new FileWriter(filename))) {
+            Iterator<Employee> iterator = employees.iterator();
+            while (iterator.hasNext()) {
+                writeEmployeeToFile(writer, iterator.next());
+                count++;
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return count;
+    }
+
     /**
      * Adds a new employee and appends it to the main file.
      *
@@ -106,23 +323,45 @@ public class EmployeeFileHandler {
         System.out.println("Employee added successfully!");
     }
 
-    private static Employee generateRandomEmployee() {
-        String id = String.format("%06d", RANDOM.nextInt(999999));
-        String name = generateRandomName();
-        double salary = Math.round((50000 + (RANDOM.nextDouble() * 50000)) * 100.0) / 100.0;
-        String department = DEPARTMENTS[RANDOM.nextInt(DEPARTMENTS.length)];
-        String position = POSITIONS[RANDOM.nextInt(POSITIONS.length)];
-        int yearsOfService = RANDOM.nextInt(20);
-        return new Employee(id, name, salary, department, position, yearsOfService);
+    /**
+     * Adds a new employee by appending it to a journal instead of the main file. This takes
+     * constant time; the caller adds the returned employee to its in-memory list.
+     *
+     * @param id             the employee's ID
+     * @param name           the employee's name
+     * @param salary         the employee's salary
+     * @param department     the employee's department
+     * @param position       the employee's position
+     * @param yearsOfService the employee's years of service
+     * @param journal        the journal of the main file
+     * @return the new employee
+     * @throws IOException if an I/O error occurs
+     */
+    public static Employee addEmployeeManually(String id, String name, double salary, String department, String position, int yearsOfService, EmployeeJournal journal) throws IOException {
+        Employee employee = new Employee(id, name, salary, department, position, yearsOfService);
+        journal.append(EmployeeJournal.Operation.ADD, employee);
+        return employee;
     }
 
-    private static String generateRandomName() {
-        String[] firstNames = {"Alice", "Bob", "Charlie", "Diana", "Eve", "Frank"};
-        String[] lastNames = {"Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia"};
-        return firstNames[RANDOM.nextInt(firstNames.length)] + " " + lastNames[RANDOM.nextInt(lastNames.length)];
+    /**
+     * Reads the next six-line record.
+     *
+     * @return the employee, or null at the end of the input
+     * @throws EOFException if the input ends inside a record
+     * @throws IOException  if an I/O error occurs
+     */
+    static Employee readEmployee(BufferedReader reader) throws IOException {
+        String[] lines = new String[6];
+        for (int i = 0; i < lines.length; i++) {
+            if ((lines[i] = reader.readLine()) == null) {
+                if (i == 0) return null;
+                throw new EOFException("Truncated employee record with ID " + lines[0] + ": " + i + " of 6 lines");
+            }
+        }
+        return new Employee(lines[0], lines[1], Double.parseDouble(lines[2]), lines[3], lines[4], Integer.parseInt(lines[5]));
     }
 
-    private static void writeEmployeeToFile(BufferedWriter writer, Employee employee) throws IOException {
+    static void writeEmployeeToFile(BufferedWriter writer, Employee employee) throws IOException {
         writer.write(employee.getId());
         writer.newLine();
         writer.write(employee.getName());
@@ -0,0 +1,458 @@
+package xyz.zuner.handlers;
+
+import xyz.zuner.obj.EmployeeStore;
+import xyz.zuner.obj.Person;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * <p>21:198:335:02 Data Structures & Algorithms</p>
+ * <p>Data Structures Final Project</p>
+ * <p>Rutgers ID: 199009651</p>
+ * <br>
+ * <p>
+ * Generates large, reproducible sets of random employees. Records are generated in chunks of
+ * {@value #CHUNK_SIZE} in parallel. Every chunk draws from its own {@link SplittableRandom}
+ * seeded from the generator seed and the chunk number, so the same seed gives the same file
+ * whatever the number of threads. Text chunks are formatted without boxing and written in order
+ * while later chunks are still being generated.
+ * </p>
+ * <p>
+ * IDs are unique. Record {@code i} gets the ID at position {@code i} of a keyed pseudo-random
+ * permutation of the ID range (a small Feistel network with cycle walking), so no set of used IDs
+ * has to be kept. Up to a million records draw from the six-digit IDs (zero-padded); larger sets
+ * draw from the IDs of the smallest width that has room for them, so every ID of a file has the
+ * same width and sorts numerically in {@link xyz.zuner.api.StackSorter#radixSort}.
+ * </p>
+ *
+ * @author Zeyad "zmr15" Rashed
+ * @mailto zmr15@scarletmail.rutgers.edu
+ * @created 18 Oct 2026
+ */
+public final class EmployeeGenerator {
+
+    /**
+     * Number of records generated per task.
+     */
+    public static final int CHUNK_SIZE = 1 << 16;
+
+    /**
+     * Largest number of records: the number of nine-digit IDs, the widest that
+     * {@link Person#parseNumericId(String)} keys numerically.
+     */
+    public static final long MAX_COUNT = 900_000_000L;
+
+    private static final String[] DEPARTMENTS = {"Accounting", "IT", "HR", "Marketing", "Operations"};
+    private static final String[] POSITIONS = {"Manager", "Technician", "Analyst", "Clerk", "Supervisor"};
+    private static final String[] FIRST_NAMES = {"Alice", "Bob", "Charlie", "Diana", "Eve", "Frank"};
+    private static final String[] LAST_NAMES = {"Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia"};
+    private static final int FEISTEL_ROUNDS = 4;
+
+    /**
+     * Shapes of the random values drawn for salaries and years of service, as fractions of their range.
+     */
+    public enum Distribution {
+        /** Every value in the range is equally likely. */
+        UNIFORM {
+            @Override
+            double sample(SplittableRandom random) {
+                return random.nextDouble();
+            }
+        },
+        /** Bell curve centered on the middle of the range, with the range covering six standard deviations. */
+        NORMAL {
+            @Override
+            double sample(SplittableRandom random) {
+                return clamp(0.5 + gaussian(random) / 6);
+            }
+        },
+        /** Right-skewed: most values near the bottom of the range, with a long tail towards the top. */
+        LOG_NORMAL {
+            @Override
+            double sample(SplittableRandom random) {
+                return clamp(Math.exp(gaussian(random) * 0.5) / Math.E / 1.5);
+            }
+        };
+
+        /**
+         * Draws a value in {@code [0, 1)}.
+         */
+        abstract double sample(SplittableRandom random);
+
+        private static double clamp(double value) {
+            return Math.min(Math.max(value, 0), Math.nextDown(1.0));
+        }
+
+        private static double gaussian(SplittableRandom random) {
+            // Box-Muller; 1 - nextDouble() is in (0, 1], so the log is finite
+            return Math.sqrt(-2 * Math.log(1 - random.nextDouble())) * Math.cos(2 * Math.PI * random.nextDouble());
+        }
+    }
+
+    /**
+     * File formats the generator can write.
+     */
+    public enum Format {
+        /** The six-line text format read by {@link EmployeeFileHandler#loadEmployeesFromFile(String)}. */
+        TEXT,
+        /** The binary format of {@link BinaryEmployeeFile}. */
+        BINARY
+    }
+
+    private long seed = System.nanoTime();
+    private Distribution salaryDistribution = Distribution.UNIFORM;
+    private double minSalary = 50_000;
+    private double maxSalary = 100_000;
+    private Distribution yearsDistribution = Distribution.UNIFORM;
+    private int maxYearsOfService = 20;
+    private String[] departments = DEPARTMENTS;
+    private String[] positions = POSITIONS;
+    private String[] firstNames = FIRST_NAMES;
+    private String[] lastNames = LAST_NAMES;
+    private Format format = Format.TEXT;
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    /**
+     * Sets the seed. Generators with the same seed and settings write identical files.
+     *
+     * @param seed the seed
+     * @return this generator
+     */
+    public EmployeeGenerator seed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Sets how salaries are drawn. Salaries are rounded to cents.
+     *
+     * @param distribution the shape of the salaries within the range
+     * @param min          the lowest salary
+     * @param max          the highest salary
+     * @return this generator
+     */
+    public EmployeeGenerator salaries(Distribution distribution, double min, double max) {
+        if (!(min >= 0 && min <= max)) throw new IllegalArgumentException("Invalid salary range: " + min + "-" + max);
+        this.salaryDistribution = distribution;
+        this.minSalary = min;
+        this.maxSalary = max;
+        return this;
+    }
+
+    /**
+     * Sets how years of service are drawn.
+     *
+     * @param distribution the shape of the years within the range
+     * @param max          the number of distinct values; years run from 0 to {@code max - 1}
+     * @return this generator
+     */
+    public EmployeeGenerator yearsOfService(Distribution distribution, int max) {
+        if (max < 1) throw new IllegalArgumentException("max must be positive: " + max);
+        this.yearsDistribution = distribution;
+        this.maxYearsOfService = max;
+        return this;
+    }
+
+    /**
+     * Sets the departments and positions drawn from, each with equal probability.
+     *
+     * @param departments the departments
+     * @param positions   the positions
+     * @return this generator
+     */
+    public EmployeeGenerator departments(String[] departments, String[] positions) {
+        if (departments.length == 0 || positions.length == 0) throw new IllegalArgumentException("No departments or positions");
+        this.departments = departments.clone();
+        this.positions = positions.clone();
+        return this;
+    }
+
+    /**
+     * Sets the first and last names combined into employee names.
+     *
+     * @param firstNames the first names
+     * @param lastNames  the last names
+     * @return this generator
+     */
+    public EmployeeGenerator names(String[] firstNames, String[] lastNames) {
+        if (firstNames.length == 0 || lastNames.length == 0) throw new IllegalArgumentException("No names");
+        this.firstNames = firstNames.clone();
+        this.lastNames = lastNames.clone();
+        return this;
+    }
+
+    /**
+     * Sets the output format.
+     *
+     * @param format the format
+     * @return this generator
+     */
+    public EmployeeGenerator format(Format format) {
+        this.format = format;
+        return this;
+    }
+
+    /**
+     * Sets the pool records are generated on.
+     *
+     * @param pool the pool
+     * @return this generator
+     */
+    public EmployeeGenerator pool(ForkJoinPool pool) {
+        this.pool = pool;
+        return this;
+    }
+
+    /**
+     * Generates employees into a file. The file is written to a temporary file of its own and moved into place.
+     * <p>
+     * Binary files need the whole dataset at once, so they are built in an {@link EmployeeStore}
+     * first; text files are streamed with a few chunks in memory at a time.
+     *
+     * @param path  the file to write
+     * @param count the number of employees, at most {@value #MAX_COUNT}
+     * @throws IOException if an I/O error occurs
+     */
+    public void write(Path path, long count) throws IOException {
+        if (count < 0 || count > MAX_COUNT) throw new IllegalArgumentException("count must be in [0, " + MAX_COUNT + "]: " + count);
+
+        Path temp = Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(), ".tmp");
+        try {
+            if (format == Format.TEXT) writeText(temp, count);
+            else writeBinary(temp, (int) Math.min(count, Integer.MAX_VALUE));
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    /**
+     * Generates employees into a columnar store.
+     *
+     * @param count the number of employees
+     * @return the store holding the employees in generation order
+     */
+    public EmployeeStore generate(int count) {
+        IdPermutation ids = idPermutation(count);
+        EmployeeStore store = new EmployeeStore(count);
+        int chunks = (int) ((count + (long) CHUNK_SIZE - 1) / CHUNK_SIZE);
+        Deque<Future<Record[]>> inFlight = new ArrayDeque<>();
+        int submitted = 0;
+        for (int written = 0; written < chunks; written++) {
+            while (submitted < chunks && inFlight.size() < pool.getParallelism() * 2) {
+                int chunk = submitted++;
+                inFlight.add(pool.submit(() -> records(chunk, count, ids)));
+            }
+            Record[] records;
+            try {
+                records = join(inFlight.poll());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            for (Record record : records) {
+                store.add(Person.formatNumericId(record.id()), record.name(), record.salary(),
+                        record.department(), record.position(), record.yearsOfService());
+            }
+        }
+        return store;
+    }
+
+    private void writeBinary(Path path, int count) throws IOException {
+        BinaryEmployeeFile.write(path, generate(count).asList());
+    }
+
+    private void writeText(Path path, long count) throws IOException {
+        IdPermutation ids = idPermutation(count);
+        Charset charset = Charset.defaultCharset(); // same as the FileWriter in EmployeeFileHandler
+        String lineSeparator = System.lineSeparator();
+        long chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+
+        // keep a couple of chunks per worker in flight and write them in order as they complete
+        Deque<Future<byte[]>> inFlight = new ArrayDeque<>();
+        long submitted = 0;
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path), 1 << 16)) {
+            for (long written = 0; written < chunks; written++) {
+                while (submitted < chunks && inFlight.size() < pool.getParallelism() * 2) {
+                    long chunk = submitted++;
+                    inFlight.add(pool.submit(() -> formatChunk(chunk, count, ids, lineSeparator).toString().getBytes(charset)));
+                }
+                out.write(join(inFlight.poll()));
+            }
+        } finally {
+            for (Future<byte[]> future : inFlight) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private StringBuilder formatChunk(long chunk, long count, IdPermutation ids, String lineSeparator) {
+        Record[] records = records(chunk, count, ids);
+        StringBuilder text = new StringBuilder(records.length * 64);
+        for (Record record : records) {
+            appendId(text, record.id());
+            text.append(lineSeparator).append(record.name()).append(lineSeparator);
+            appendSalary(text, record.salary());
+            text.append(lineSeparator).append(record.department())
+                    .append(lineSeparator).append(record.position())
+                    .append(lineSeparator).append(record.yearsOfService())
+                    .append(lineSeparator);
+        }
+        return text;
+    }
+
+    /**
+     * Generates the records of a chunk from the chunk's own random stream.
+     */
+    private Record[] records(long chunk, long count, IdPermutation ids) {
+        SplittableRandom random = new SplittableRandom(mix(seed + chunk * 0x9E3779B97F4A7C15L));
+        long first = chunk * CHUNK_SIZE;
+        Record[] records = new Record[(int) Math.min(CHUNK_SIZE, count - first)];
+        for (int i = 0; i < records.length; i++) {
+            int id = (int) ids.apply(first + i);
+            String name = firstNames[random.nextInt(firstNames.length)] + " " + lastNames[random.nextInt(lastNames.length)];
+            double salary = Math.round((minSalary + salaryDistribution.sample(random) * (maxSalary - minSalary)) * 100) / 100.0;
+            String department = departments[random.nextInt(departments.length)];
+            String position = positions[random.nextInt(positions.length)];
+            int yearsOfService = (int) (yearsDistribution.sample(random) * maxYearsOfService);
+            records[i] = new Record(id, name, salary, department, position, yearsOfService);
+        }
+        return records;
+    }
+
+    /**
+     * Appends a numeric ID in its canonical zero-padded form.
+     *
+     * @see Person#formatNumericId(int)
+     */
+    private static void appendId(StringBuilder text, int id) {
+        for (int width = Person.numericIdWidth(id), digits = digits(id); width > digits; width--) {
+            text.append('0');
+        }
+        text.append(id);
+    }
+
+    /**
+     * Appends a salary exactly as {@link String#valueOf(double)} formats it. Salaries with cents
+     * below ten million are written from their cents; {@code Double.toString} gives the shortest
+     * decimal that identifies the value, which is that cents value without trailing zeros.
+     */
+    private static void appendSalary(StringBuilder text, double salary) {
+        if (salary >= 1e7) {
+            text.append(salary);
+            return;
+        }
+        long cents = Math.round(salary * 100);
+        text.append(cents / 100).append('.');
+        int fraction = (int) (cents % 100);
+        if (fraction % 10 == 0) {
+            text.append((char) ('0' + fraction / 10));
+        } else {
+            text.append((char) ('0' + fraction / 10)).append((char) ('0' + fraction % 10));
+        }
+    }
+
+    private static int digits(int value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    /**
+     * Gets the IDs for a number of records: the million six-digit IDs, or else the IDs of the
+     * smallest width with room for them, from {@code 10^(w-1)} to {@code 10^w - 1}, so that all
+     * IDs have one width. {@link #MAX_COUNT} keeps the width at nine digits.
+     */
+    private IdPermutation idPermutation(long count) {
+        if (count <= 1_000_000) return new IdPermutation(0, 1_000_000, seed);
+        long first = 1_000_000;
+        while (9 * first < count) first *= 10;
+        return new IdPermutation(first, 9 * first, seed);
+    }
+
+    private static long mix(long z) {
+        // SplitMix64 finalizer
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static <T> T join(Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while generating employees", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) throw io;
+            if (cause instanceof RuntimeException runtime) throw runtime;
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * A generated employee, before it is formatted or stored.
+     */
+    private record Record(int id, String name, double salary, String department, String position, int yearsOfService) {
+    }
+
+    /**
+     * A keyed bijection of {@code [0, range)} onto {@code [first, first + range)}: a balanced
+     * Feistel network over the smallest even number of bits that covers the range, applied again
+     * until the result falls inside the range (cycle walking). Every index maps to a distinct ID.
+     */
+    private static final class IdPermutation {
+        private final long first;
+        private final long range;
+        private final int halfBits;
+        private final long halfMask;
+        private final long[] keys = new long[FEISTEL_ROUNDS];
+
+        IdPermutation(long first, long range, long seed) {
+            this.first = first;
+            this.range = range;
+            int bits = 64 - Long.numberOfLeadingZeros(range - 1);
+            this.halfBits = (bits + 1) / 2;
+            this.halfMask = (1L << halfBits) - 1;
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = mix(seed ^ (0xD1B54A32D192ED03L * (i + 1)));
+            }
+        }
+
+        long apply(long index) {
+            long value = index;
+            do {
+                value = encrypt(value);
+            } while (value >= range);
+            return first + value;
+        }
+
+        private long encrypt(long value) {
+            long left = value >>> halfBits;
+            long right = value & halfMask;
+            for (long key : keys) {
+                long next = left ^ (mix(right ^ key) & halfMask);
+                left = right;
+                right = next;
+            }
+            return (left << halfBits) | right;
+        }
+    }
+}
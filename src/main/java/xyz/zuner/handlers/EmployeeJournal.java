@@ -0,0 +1,290 @@
+package xyz.zuner.handlers;
+
+import xyz.zuner.api.EmployeeIndex;
+import xyz.zuner.obj.Employee;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * <p>21:198:335:02 Data Structures & Algorithms</p>
+ * <p>Data Structures Final Project</p>
+ * <p>Rutgers ID: 199009651</p>
+ * <br>
+ * <p>
+ * Append-only journal of employee adds and edits kept next to a main employee file
+ * ({@code Employee.txt.journal} for {@code Employee.txt}). An entry is an operation line followed by
+ * the six record lines, so writing one costs the same no matter how large the main file is. The
+ * journal is replayed on top of the main file when it is loaded.
+ * </p>
+ * <p>
+ * Compaction folds the journal back into the main file. The journal is first renamed to
+ * {@code .compacting} and a fresh journal is started, then a background thread writes the snapshot
+ * to a temporary file, moves it over the main file, and deletes {@code .compacting}. Just before the
+ * move, the size, modification time and file key of the temporary file are written to
+ * {@code .compacting.target}; the move keeps them, so on the next load they tell whether the main
+ * file is already the compacted one. If it is, {@code .compacting} is skipped; otherwise it is
+ * replayed in full, like the live journal. Nothing is matched by ID, since IDs need not be unique.
+ * </p>
+ *
+ * @author Zeyad "zmr15" Rashed
+ * @mailto zmr15@scarletmail.rutgers.edu
+ * @created 18 Oct 2026
+ */
+public class EmployeeJournal implements Closeable {
+
+    /**
+     * Number of journaled operations after which {@link #needsCompaction()} returns true.
+     */
+    public static final int COMPACTION_THRESHOLD = 10_000;
+
+    /**
+     * Operations recorded in the journal.
+     */
+    public enum Operation {
+        ADD, EDIT
+    }
+
+    private final Path mainFile;
+    private final Path journalFile;
+    private final Path compactingFile;
+    private final Path targetFile;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "employee-journal-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private BufferedWriter writer;
+    private int pendingOperations;
+    private Future<?> compaction = CompletableFuture.completedFuture(null);
+
+    /**
+     * Opens (or creates) the journal of a main employee file.
+     *
+     * @param mainFilename the main employee file
+     * @throws IOException if the journal cannot be opened
+     */
+    public EmployeeJournal(String mainFilename) throws IOException {
+        this.mainFile = Path.of(mainFilename);
+        this.journalFile = Path.of(mainFilename + ".journal");
+        this.compactingFile = Path.of(mainFilename + ".journal.compacting");
+        this.targetFile = Path.of(mainFilename + ".journal.compacting.target");
+        this.writer = openWriter(StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Appends an operation to the journal and flushes it.
+     * <p>
+     * Time Complexity: O(1) - independent of the number of employees.
+     *
+     * @param operation the operation
+     * @param employee  the added employee, or the edited employee with its new values
+     * @throws IOException if an I/O error occurs
+     */
+    public synchronized void append(Operation operation, Employee employee) throws IOException {
+        writer.write(operation.name());
+        writer.newLine();
+        EmployeeFileHandler.writeEmployeeToFile(writer, employee);
+        writer.flush();
+        pendingOperations++;
+    }
+
+    /**
+     * Applies the journaled operations to employees loaded from the main file. Adds are appended
+     * to the list; edits update the employee with the same ID in place. The operations of an
+     * interrupted compaction are applied first, unless the main file already includes them.
+     *
+     * @param employees the employees loaded from the main file
+     * @param index     an index of {@code employees}, kept up to date with the replayed operations
+     * @throws IOException if the journal cannot be read
+     */
+    public synchronized void replay(List<Employee> employees, EmployeeIndex index) throws IOException {
+        pendingOperations = 0;
+        if (Files.exists(compactingFile) && !compactionFinished()) pendingOperations += apply(compactingFile, employees, index);
+        if (Files.exists(journalFile)) pendingOperations += apply(journalFile, employees, index);
+    }
+
+    /**
+     * Checks whether enough operations have been journaled to be worth compacting, and no
+     * compaction is running.
+     *
+     * @return true if {@link #compact(List)} should be called
+     */
+    public synchronized boolean needsCompaction() {
+        return pendingOperations >= COMPACTION_THRESHOLD && compaction.isDone();
+    }
+
+    /**
+     * Starts folding the journal into the main file. The journal is rotated right away, so the
+     * snapshot must reflect every operation journaled so far; the main file is rewritten on a
+     * background thread.
+     *
+     * @param snapshot a copy of the current employee list, which must not be modified afterwards
+     * @return a future that completes when the main file has been replaced
+     * @throws IOException if the journal cannot be rotated
+     */
+    public synchronized Future<?> compact(List<Employee> snapshot) throws IOException {
+        if (!compaction.isDone()) return compaction;
+
+        writer.close();
+        if (Files.exists(compactingFile) && compactionFinished()) {
+            // an earlier compaction replaced the main file but was interrupted before cleaning up
+            Files.delete(compactingFile);
+            Files.deleteIfExists(targetFile);
+        }
+        if (Files.exists(compactingFile)) {
+            // an earlier compaction failed; keep its operations ahead of the new ones
+            try (OutputStream out = Files.newOutputStream(compactingFile, StandardOpenOption.APPEND)) {
+                Files.copy(journalFile, out);
+            }
+            Files.delete(journalFile);
+        } else {
+            Files.move(journalFile, compactingFile, StandardCopyOption.ATOMIC_MOVE);
+        }
+        writer = openWriter(StandardOpenOption.APPEND);
+        pendingOperations = 0;
+
+        compaction = compactor.submit(() -> {
+            Path temp = Files.createTempFile(mainFile.toAbsolutePath().getParent(), mainFile.getFileName().toString(), ".tmp");
+            try {
+                EmployeeFileHandler.saveEmployeesToFile(temp.toString(), snapshot);
+                Files.writeString(targetFile, fingerprint(temp), StandardCharsets.UTF_8);
+                Files.move(temp, mainFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+            Files.delete(compactingFile);
+            Files.deleteIfExists(targetFile);
+            return null;
+        });
+        return compaction;
+    }
+
+    /**
+     * Waits for a running compaction to finish.
+     *
+     * @throws IOException if the compaction failed
+     */
+    public void awaitCompaction() throws IOException {
+        Future<?> running;
+        synchronized (this) {
+            running = compaction;
+        }
+        try {
+            running.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for journal compaction");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) throw io;
+            throw new IOException("Journal compaction failed", e.getCause());
+        }
+    }
+
+    /**
+     * Discards the journal. Call this after the main file has been rewritten from a list that
+     * already includes every journaled operation, or replaced altogether.
+     *
+     * @throws IOException if the journal cannot be truncated
+     */
+    public synchronized void clear() throws IOException {
+        try {
+            awaitCompaction();
+        } catch (IOException e) {
+            // the main file is being replaced by the caller, so a failed compaction no longer matters
+        }
+        writer.close();
+        Files.deleteIfExists(compactingFile);
+        Files.deleteIfExists(targetFile);
+        writer = openWriter(StandardOpenOption.TRUNCATE_EXISTING);
+        pendingOperations = 0;
+    }
+
+    /**
+     * Waits for a running compaction and closes the journal.
+     *
+     * @throws IOException if the compaction failed or the journal cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            awaitCompaction();
+        } finally {
+            compactor.shutdown();
+            synchronized (this) {
+                writer.close();
+            }
+        }
+    }
+
+    private BufferedWriter openWriter(StandardOpenOption mode) throws IOException {
+        return Files.newBufferedWriter(journalFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode);
+    }
+
+    /**
+     * Checks whether the main file is the one an interrupted compaction moved into place.
+     */
+    private boolean compactionFinished() throws IOException {
+        return Files.exists(targetFile) && Files.exists(mainFile)
+                && Files.readString(targetFile, StandardCharsets.UTF_8).equals(fingerprint(mainFile));
+    }
+
+    /**
+     * Identifies a file by attributes that a move keeps: its size, modification time and file key.
+     */
+    private static String fingerprint(Path file) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        return attributes.size() + " " + attributes.lastModifiedTime() + " " + attributes.fileKey();
+    }
+
+    /**
+     * Applies every operation in a journal file.
+     *
+     * @return the number of operations applied
+     */
+    private static int apply(Path file, List<Employee> employees, EmployeeIndex index) throws IOException {
+        int operations = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Operation operation;
+                try {
+                    operation = Operation.valueOf(line);
+                } catch (IllegalArgumentException e) {
+                    break; // an operation line cut short by a crash
+                }
+                Employee employee;
+                try {
+                    employee = EmployeeFileHandler.readEmployee(reader);
+                } catch (EOFException e) {
+                    break; // an entry cut short by a crash; everything before it is intact
+                }
+                if (employee == null) break; // an operation line without a record, also cut short
+                operations++;
+
+                Employee existing = index.get(employee.getId());
+                if (operation == Operation.ADD) {
+                    employees.add(employee);
+                    index.put(employee);
+                } else if (existing != null) {
+                    existing.setName(employee.getName());
+                    existing.setSalary(employee.getSalary());
+                    existing.setDepartment(employee.getDepartment());
+                    existing.setPosition(employee.getPosition());
+                    existing.setYearsOfService(employee.getYearsOfService());
+                }
+            }
+        }
+        return operations;
+    }
+}
@@ -0,0 +1,71 @@
+package xyz.zuner.handlers;
+
+import xyz.zuner.obj.Employee;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>21:198:335:02 Data Structures & Algorithms</p>
+ * <p>Data Structures Final Project</p>
+ * <p>Rutgers ID: 199009651</p>
+ * <br>
+ * <p>
+ * Parses employee records from a reader one at a time, as they are requested. I/O errors are
+ * rethrown as {@link UncheckedIOException}, like {@link java.nio.file.Files#lines(java.nio.file.Path)} does.
+ * A record cut short at the end of the input is such an error too, wrapping an
+ * {@link java.io.EOFException}, so iteration never ends early without notice.
+ * </p>
+ *
+ * @author Zeyad "zmr15" Rashed
+ * @mailto zmr15@scarletmail.rutgers.edu
+ * @created 18 Oct 2026
+ */
+final class EmployeeRecordIterator implements Iterator<Employee>, Closeable {
+
+    private final BufferedReader reader;
+    private Employee next;
+    private boolean done;
+
+    /**
+     * Creates an iterator over the records of a reader, which it takes ownership of.
+     *
+     * @param reader the reader positioned at the start of a record
+     */
+    EmployeeRecordIterator(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !done) {
+            try {
+                next = EmployeeFileHandler.readEmployee(reader);
+            } catch (IOException e) {
+                done = true; // the position in the input is lost
+                throw new UncheckedIOException(e);
+            }
+            done = next == null;
+        }
+        return next != null;
+    }
+
+    @Override
+    public Employee next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        Employee employee = next;
+        next = null;
+        return employee;
+    }
+
+    @Override
+    public void close() throws IOException {
+        done = true;
+        next = null;
+        reader.close();
+    }
+}
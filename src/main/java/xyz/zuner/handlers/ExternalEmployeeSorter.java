@@ -0,0 +1,198 @@
+package xyz.zuner.handlers;
+
+import xyz.zuner.api.Sortable;
+import xyz.zuner.obj.Employee;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * <p>21:198:335:02 Data Structures & Algorithms</p>
+ * <p>Data Structures Final Project</p>
+ * <p>Rutgers ID: 199009651</p>
+ * <br>
+ * <p>
+ * Sorts employee files that do not fit in memory. The input is read in runs of at most
+ * {@code runSize} employees; every run is sorted with a {@link Sortable} and spilled to a temporary
+ * file. The runs are then merged with a min-heap holding the current head of every run. When there
+ * are more than {@value #MAX_FAN_IN} runs, they are merged in several passes so the number of open
+ * files stays bounded.
+ * </p>
+ * <p>
+ * Memory use is one run plus one buffered reader per merged run, whatever the size of the input.
+ * Ties between runs go to the earlier run, so the result is stable when the run sorter is.
+ * </p>
+ *
+ * @author Zeyad "zmr15" Rashed
+ * @mailto zmr15@scarletmail.rutgers.edu
+ * @created 18 Oct 2026
+ */
+public final class ExternalEmployeeSorter {
+
+    /**
+     * Default number of employees sorted in memory at a time.
+     */
+    public static final int DEFAULT_RUN_SIZE = 1 << 20;
+
+    /**
+     * Maximum number of runs merged at once.
+     */
+    public static final int MAX_FAN_IN = 64;
+
+    private final Sortable<Employee> sorter;
+    private final int runSize;
+    private final Path tempDirectory;
+
+    /**
+     * Creates an external sorter with the default run size that spills runs next to the output file.
+     *
+     * @param sorter sorts every run in memory
+     */
+    public ExternalEmployeeSorter(Sortable<Employee> sorter) {
+        this(sorter, DEFAULT_RUN_SIZE, null);
+    }
+
+    /**
+     * Creates an external sorter.
+     *
+     * @param sorter        sorts every run in memory
+     * @param runSize       the maximum number of employees held in memory at a time
+     * @param tempDirectory the directory for run files, or null to use the directory of the output file
+     */
+    public ExternalEmployeeSorter(Sortable<Employee> sorter, int runSize, Path tempDirectory) {
+        if (runSize < 1) throw new IllegalArgumentException("runSize must be positive: " + runSize);
+        this.sorter = sorter;
+        this.runSize = runSize;
+        this.tempDirectory = tempDirectory;
+    }
+
+    /**
+     * Sorts an employee file into another file. The output is written to a temporary file and
+     * moved into place, so it is never left half-written.
+     * <p>
+     * Time Complexity: O(n log n) comparisons and O(n log_{64}(n / runSize)) record reads and writes.
+     *
+     * @param input      the file to sort
+     * @param output     the file to write the sorted employees to
+     * @param comparator the sort order
+     * @throws IOException if an I/O error occurs or the input ends inside a record, in which case
+     *                     the output is left untouched
+     */
+    public void sort(Path input, Path output, Comparator<Employee> comparator) throws IOException {
+        Path directory = tempDirectory != null ? tempDirectory : output.toAbsolutePath().getParent();
+        List<Path> created = new ArrayList<>(); // every run file, deleted at the end
+        try {
+            spillRuns(input, directory, comparator, created);
+            List<Path> runs = new ArrayList<>(created);
+            while (runs.size() > MAX_FAN_IN) {
+                List<Path> merged = new ArrayList<>();
+                for (int i = 0; i < runs.size(); i += MAX_FAN_IN) {
+                    List<Path> group = runs.subList(i, Math.min(runs.size(), i + MAX_FAN_IN));
+                    Path run = Files.createTempFile(directory, "employees-run", ".txt");
+                    created.add(run);
+                    merged.add(run);
+                    merge(group, run, comparator);
+                    for (Path path : group) {
+                        Files.delete(path);
+                    }
+                }
+                runs = merged;
+            }
+
+            Path temp = Files.createTempFile(output.toAbsolutePath().getParent(), output.getFileName().toString(), ".tmp");
+            try {
+                if (runs.size() == 1) Files.move(runs.get(0), temp, StandardCopyOption.REPLACE_EXISTING); // already sorted
+                else merge(runs, temp, comparator);
+                Files.move(temp, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+        } finally {
+            for (Path run : created) {
+                Files.deleteIfExists(run);
+            }
+        }
+    }
+
+    /**
+     * Reads the input in runs, sorts them and writes each to its own temporary file.
+     */
+    private void spillRuns(Path input, Path directory, Comparator<Employee> comparator, List<Path> runs) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new FileReader(input.toFile()))) {
+            List<Employee> run = new ArrayList<>(Math.min(runSize, 1 << 16));
+            Employee employee;
+            while ((employee = EmployeeFileHandler.readEmployee(reader)) != null) {
+                run.add(employee);
+                if (run.size() == runSize) {
+                    runs.add(spill(run, directory, comparator));
+                    run.clear();
+                }
+            }
+            if (!run.isEmpty() || runs.isEmpty()) {
+                runs.add(spill(run, directory, comparator));
+            }
+        }
+    }
+
+    private Path spill(List<Employee> run, Path directory, Comparator<Employee> comparator) throws IOException {
+        sorter.sort(run, comparator);
+        Path path = Files.createTempFile(directory, "employees-run", ".txt");
+        EmployeeFileHandler.saveEmployeesToFile(path.toString(), run);
+        return path;
+    }
+
+    /**
+     * Merges sorted run files into one sorted file with a heap of run heads.
+     */
+    private static void merge(List<Path> runs, Path output, Comparator<Employee> comparator) throws IOException {
+        PriorityQueue<RunCursor> heap = new PriorityQueue<>(runs.size(), (a, b) -> {
+            int result = comparator.compare(a.head, b.head);
+            return result != 0 ? result : Integer.compare(a.order, b.order);
+        });
+        List<BufferedReader> readers = new ArrayList<>(runs.size());
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(output.toFile()))) {
+            for (int i = 0; i < runs.size(); i++) {
+                BufferedReader reader = new BufferedReader(new FileReader(runs.get(i).toFile()));
+                readers.add(reader);
+                RunCursor cursor = new RunCursor(reader, i);
+                if (cursor.advance()) heap.add(cursor);
+            }
+
+            while (!heap.isEmpty()) {
+                RunCursor cursor = heap.poll();
+                EmployeeFileHandler.writeEmployeeToFile(writer, cursor.head);
+                if (cursor.advance()) heap.add(cursor);
+            }
+        } finally {
+            for (BufferedReader reader : readers) {
+                reader.close();
+            }
+        }
+    }
+
+    /**
+     * The current record of a run being merged.
+     */
+    private static final class RunCursor {
+        private final BufferedReader reader;
+        private final int order;
+        private Employee head;
+
+        RunCursor(BufferedReader reader, int order) {
+            this.reader = reader;
+            this.order = order;
+        }
+
+        boolean advance() throws IOException {
+            head = EmployeeFileHandler.readEmployee(reader);
+            return head != null;
+        }
+    }
+}
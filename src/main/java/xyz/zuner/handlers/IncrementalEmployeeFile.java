@@ -0,0 +1,358 @@
+package xyz.zuner.handlers;
+
+import xyz.zuner.obj.Employee;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+
+/**
+ * <p>21:198:335:02 Data Structures & Algorithms</p>
+ * <p>Data Structures Final Project</p>
+ * <p>Rutgers ID: 199009651</p>
+ * <br>
+ * <p>
+ * Saves a list of employees back to the text file it was loaded from, writing only the
+ * records of employees that are {@linkplain Employee#isDirty() dirty}. Every tracked employee
+ * reports its first change after a save to this file (see {@link Employee#trackChanges}), which
+ * keeps the changed record numbers in a list, so a save looks at the changed employees only. The
+ * byte offset of every record is kept, so a changed record is patched in place when its new text
+ * has the same length. Otherwise the file is rebuilt in a temporary file by copying the unchanged
+ * byte ranges and moved over the original. Employees appended to the list are appended to the file.
+ * </p>
+ * <p>
+ * Lists that lost employees, changed employees found away from their records, and files changed
+ * by someone else since the last save lead to a full rewrite, also through a temporary file.
+ * </p>
+ *
+ * @author Zeyad "zmr15" Rashed
+ * @mailto zmr15@scarletmail.rutgers.edu
+ * @created 18 Oct 2026
+ */
+public final class IncrementalEmployeeFile {
+
+    private static final int LINES_PER_RECORD = 6;
+
+    private final Path path;
+    private final Charset charset = Charset.defaultCharset(); // same as the FileWriter in EmployeeFileHandler
+    private final String lineSeparator = System.lineSeparator();
+
+    private final Employee.ChangeListener changeListener = this::recordChanged;
+    private Employee[] tracked; // the employee of every record; null if the file does not match the list
+    private long[] offsets; // start of every record, then the file size
+    private int[] changedRecords = new int[16]; // records whose employee changed since the last save, in change order
+    private int changedCount;
+
+    private Object fileKey;
+    private long fileSize;
+    private long lastModified;
+
+    private IncrementalEmployeeFile(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Starts tracking a file and the employees loaded from it, in file order. The employees are
+     * marked clean. If the file does not hold exactly one record per employee, the first save
+     * rewrites it.
+     *
+     * @param path      the employee file
+     * @param employees the employees loaded from the file, in file order
+     * @return the tracked file
+     * @throws IOException if the file cannot be read
+     */
+    public static IncrementalEmployeeFile track(Path path, List<Employee> employees) throws IOException {
+        IncrementalEmployeeFile file = new IncrementalEmployeeFile(path);
+        long[] offsets = Files.exists(path) ? recordOffsets(path) : null;
+        if (offsets != null && offsets.length - 1 == employees.size()) {
+            file.offsets = offsets;
+            file.tracked = employees.toArray(new Employee[0]);
+            for (int i = 0; i < file.tracked.length; i++) {
+                file.tracked[i].trackChanges(file.changeListener, i);
+            }
+            file.stamp();
+        }
+        return file;
+    }
+
+    /**
+     * Saves the employees, writing only what changed since the last save. The list must hold the
+     * tracked employees at the positions of their records, as loaded, and may have new employees
+     * appended; such as a roster that is only ever appended to.
+     * <p>
+     * Time Complexity: O(k log k) for k changed employees, plus their record writes when every
+     * changed record keeps its length. A length change costs a sequential copy of the file, and
+     * a list that lost employees or moved a changed one a full rewrite.
+     *
+     * @param employees the employees to save
+     * @return the number of records written
+     * @throws IOException if an I/O error occurs
+     */
+    public int save(List<Employee> employees) throws IOException {
+        if (tracked == null || employees.size() < tracked.length || fileChanged()) {
+            return rewrite(employees);
+        }
+
+        int[] dirty = takeChangedRecords();
+        for (int record : dirty) {
+            if (employees.get(record) != tracked[record]) return rewrite(employees); // the list was reordered
+        }
+        int appended = employees.size() - tracked.length;
+        if (dirty.length == 0 && appended == 0) return 0;
+
+        try {
+            byte[][] encoded = new byte[dirty.length][];
+            boolean sameLength = true;
+            for (int i = 0; i < encoded.length; i++) {
+                int record = dirty[i];
+                encoded[i] = encode(tracked[record]);
+                sameLength &= encoded[i].length == offsets[record + 1] - offsets[record];
+            }
+
+            if (sameLength) patch(dirty, encoded);
+            else splice(dirty, encoded);
+            if (appended > 0) append(employees.subList(tracked.length, employees.size()));
+        } catch (IOException | RuntimeException e) {
+            for (int record : dirty) {
+                recordChanged(record); // still to be written
+            }
+            throw e;
+        }
+
+        for (int record : dirty) {
+            tracked[record].markClean();
+        }
+        stamp();
+        return dirty.length + appended;
+    }
+
+    /**
+     * Queues the record of a tracked employee that changed.
+     */
+    private synchronized void recordChanged(int record) {
+        if (changedCount == changedRecords.length) changedRecords = Arrays.copyOf(changedRecords, changedCount * 2);
+        changedRecords[changedCount++] = record;
+    }
+
+    /**
+     * Empties the queue of changed records.
+     *
+     * @return the records whose employee is still dirty, ascending and without repeats
+     */
+    private synchronized int[] takeChangedRecords() {
+        int[] records = Arrays.copyOf(changedRecords, changedCount);
+        changedCount = 0;
+        Arrays.sort(records);
+        int size = 0;
+        for (int record : records) {
+            if ((size == 0 || records[size - 1] != record) && tracked[record].isDirty()) records[size++] = record;
+        }
+        return Arrays.copyOf(records, size);
+    }
+
+    private synchronized void clearChangedRecords() {
+        changedCount = 0;
+    }
+
+    /**
+     * Overwrites records in place.
+     */
+    private void patch(int[] dirty, byte[][] encoded) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            for (int i = 0; i < encoded.length; i++) {
+                ByteBuffer buffer = ByteBuffer.wrap(encoded[i]);
+                long position = offsets[dirty[i]];
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Rebuilds the file in a temporary file from the unchanged byte ranges of the original and the
+     * changed records, then moves it over the original.
+     */
+    private void splice(int[] dirty, byte[][] encoded) throws IOException {
+        long[] oldLengths = new long[encoded.length];
+        for (int i = 0; i < encoded.length; i++) {
+            oldLengths[i] = offsets[dirty[i] + 1] - offsets[dirty[i]];
+        }
+
+        Path temp = Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(), ".tmp");
+        try (FileChannel source = FileChannel.open(path, StandardOpenOption.READ);
+             FileChannel target = FileChannel.open(temp, StandardOpenOption.CREATE,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long copied = 0;
+            for (int i = 0; i < encoded.length; i++) {
+                int record = dirty[i];
+                transfer(source, copied, offsets[record] - copied, target);
+                ByteBuffer buffer = ByteBuffer.wrap(encoded[i]);
+                while (buffer.hasRemaining()) {
+                    target.write(buffer);
+                }
+                copied = offsets[record + 1];
+            }
+            transfer(source, copied, offsets[offsets.length - 1] - copied, target);
+            target.force(false);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        // shift the offsets of the records after every resized one
+        long shift = 0;
+        int next = 0;
+        for (int record = 0; record < offsets.length; record++) {
+            offsets[record] += shift;
+            if (next < encoded.length && dirty[next] == record) {
+                shift += encoded[next].length - oldLengths[next];
+                next++;
+            }
+        }
+    }
+
+    /**
+     * Writes every employee to a temporary file and moves it over the original.
+     */
+    private int rewrite(List<Employee> employees) throws IOException {
+        Path temp = Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(), ".tmp");
+        long[] newOffsets = new long[employees.size() + 1];
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+            long position = 0;
+            for (int i = 0; i < employees.size(); i++) {
+                newOffsets[i] = position;
+                byte[] bytes = encode(employees.get(i));
+                out.write(bytes);
+                position += bytes.length;
+            }
+            newOffsets[employees.size()] = position;
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        offsets = newOffsets;
+        tracked = employees.toArray(new Employee[0]);
+        clearChangedRecords();
+        for (int i = 0; i < tracked.length; i++) {
+            tracked[i].trackChanges(changeListener, i);
+        }
+        stamp();
+        return employees.size();
+    }
+
+    /**
+     * Appends the records of employees added to the end of the list.
+     */
+    private void append(List<Employee> added) throws IOException {
+        int first = tracked.length;
+        long[] newOffsets = Arrays.copyOf(offsets, first + added.size() + 1);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path, StandardOpenOption.APPEND))) {
+            long position = offsets[first];
+            for (int i = 0; i < added.size(); i++) {
+                byte[] bytes = encode(added.get(i));
+                out.write(bytes);
+                position += bytes.length;
+                newOffsets[first + i + 1] = position;
+            }
+        }
+
+        offsets = newOffsets;
+        tracked = Arrays.copyOf(tracked, first + added.size());
+        for (int i = 0; i < added.size(); i++) {
+            tracked[first + i] = added.get(i);
+            tracked[first + i].trackChanges(changeListener, first + i);
+        }
+    }
+
+    /**
+     * Encodes a record exactly as {@link EmployeeFileHandler#saveEmployeesToFile(String, List)} writes it.
+     */
+    private byte[] encode(Employee employee) {
+        return (employee.getId() + lineSeparator
+                + employee.getName() + lineSeparator
+                + employee.getSalary() + lineSeparator
+                + employee.getDepartment() + lineSeparator
+                + employee.getPosition() + lineSeparator
+                + employee.getYearsOfService() + lineSeparator).getBytes(charset);
+    }
+
+    private static void transfer(FileChannel source, long position, long count, FileChannel target) throws IOException {
+        while (count > 0) {
+            long transferred = source.transferTo(position, count, target);
+            position += transferred;
+            count -= transferred;
+        }
+    }
+
+    /**
+     * Finds the byte offset of every record ({@code \n}, {@code \r\n} and a lone {@code \r} end a line),
+     * scanning the file in large blocks.
+     *
+     * @return the record offsets followed by the file size, or null if the file does not end with a whole record
+     */
+    private static long[] recordOffsets(Path path) throws IOException {
+        long[] offsets = new long[1024];
+        int records = 0;
+        long lines = 0;
+        long position = 0;
+        boolean lineStart = true;
+        boolean afterCr = false; // the last byte was a \r, so a \n next belongs to the same line end
+        ByteBuffer buffer = ByteBuffer.allocate(1 << 20);
+        byte[] bytes = buffer.array();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            int read;
+            while ((read = channel.read(buffer.clear())) != -1) {
+                for (int i = 0; i < read; i++, position++) {
+                    byte b = bytes[i];
+                    if (afterCr) {
+                        afterCr = false;
+                        if (b == '\n') continue;
+                    }
+                    if (lineStart && lines % LINES_PER_RECORD == 0) {
+                        if (records == offsets.length) offsets = Arrays.copyOf(offsets, records * 2);
+                        offsets[records++] = position;
+                    }
+                    lineStart = false;
+                    if (b == '\n' || b == '\r') {
+                        lines++;
+                        lineStart = true;
+                        afterCr = b == '\r';
+                    }
+                }
+            }
+        }
+        if (!lineStart) lines++; // the last line has no terminator
+        if (lines % LINES_PER_RECORD != 0) return null;
+
+        long[] result = Arrays.copyOf(offsets, records + 1);
+        result[records] = position;
+        return result;
+    }
+
+    private void stamp() throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        fileKey = attributes.fileKey();
+        fileSize = attributes.size();
+        lastModified = attributes.lastModifiedTime().toMillis();
+    }
+
+    private boolean fileChanged() throws IOException {
+        if (!Files.exists(path)) return true;
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        return !Objects.equals(fileKey, attributes.fileKey())
+                || fileSize != attributes.size()
+                || lastModified != attributes.lastModifiedTime().toMillis();
+    }
+}
@@ -0,0 +1,232 @@
+package xyz.zuner.handlers;
+
+import xyz.zuner.obj.Employee;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * <p>21:198:335:02 Data Structures & Algorithms</p>
+ * <p>Data Structures Final Project</p>
+ * <p>Rutgers ID: 199009651</p>
+ * <br>
+ * <p>
+ * Parses the six-line employee record format (see {@link EmployeeFileHandler}) straight out of a
+ * memory-mapped file. Lines are found by scanning bytes, salaries and years of service are parsed
+ * from the bytes without building intermediate strings, and departments, positions and names are
+ * shared through a {@link ByteStringPool}. Only the ID and uncommon names allocate a new string.
+ * </p>
+ * <p>
+ * The file is mapped in windows of at most {@value #WINDOW_SIZE} bytes, so files larger than 2 GB
+ * can be read. A reader does not own the channel and is not thread-safe; parallel loaders create
+ * one reader per worker over a shared channel.
+ * </p>
+ *
+ * @author Zeyad "zmr15" Rashed
+ * @mailto zmr15@scarletmail.rutgers.edu
+ * @created 18 Oct 2026
+ */
+final class MappedEmployeeReader {
+
+    static final int WINDOW_SIZE = 1 << 28;
+    private static final int LINES_PER_RECORD = 6;
+    private static final int POOL_SIZE = 4096;
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final ByteStringPool pool = new ByteStringPool(POOL_SIZE);
+
+    private MappedByteBuffer window;
+    private long windowStart;
+    private int windowLength;
+
+    // start and end offsets (within the window) of the lines of the current record
+    private final int[] lineStarts = new int[LINES_PER_RECORD];
+    private final int[] lineEnds = new int[LINES_PER_RECORD];
+
+    /**
+     * Creates a reader over an open channel.
+     *
+     * @param channel the channel to map, opened for reading
+     * @throws IOException if the size of the channel cannot be read
+     */
+    MappedEmployeeReader(FileChannel channel) throws IOException {
+        this.channel = channel;
+        this.fileSize = channel.size();
+    }
+
+    /**
+     * Parses every record that starts in {@code [start, end)} and adds it to {@code out}.
+     * The last record may extend past {@code end}; it is read to its end.
+     *
+     * @param start the offset of the first record, which must be at a record boundary
+     * @param end   the offset at which no more records are started
+     * @param out   the list to add the parsed employees to
+     * @throws IOException if the file cannot be mapped or a record is truncated
+     */
+    void readRange(long start, long end, List<Employee> out) throws IOException {
+        long position = start;
+        end = Math.min(end, fileSize);
+        while (position < end) {
+            if (window == null || position < windowStart || position >= windowStart + windowLength) {
+                map(position);
+            }
+
+            int next = findRecord((int) (position - windowStart));
+            if (next < 0) {
+                // the record runs past the window; map again starting at the record
+                if (windowStart == position && windowStart + windowLength < fileSize) {
+                    throw new IOException("Record at byte " + position + " is longer than " + WINDOW_SIZE + " bytes");
+                }
+                if (windowStart + windowLength >= fileSize) {
+                    throw new IOException("Truncated employee record at byte " + position);
+                }
+                map(position);
+                continue;
+            }
+
+            out.add(parseRecord());
+            position = windowStart + next;
+        }
+    }
+
+    private void map(long position) throws IOException {
+        windowStart = position;
+        windowLength = (int) Math.min(WINDOW_SIZE, fileSize - position);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, position, windowLength);
+    }
+
+    /**
+     * Finds the six lines of the record starting at {@code offset} in the window.
+     *
+     * @return the window offset just past the record, or -1 if the record is not complete in the window
+     */
+    private int findRecord(int offset) {
+        boolean windowReachesEof = windowStart + windowLength >= fileSize;
+        int position = offset;
+        for (int line = 0; line < LINES_PER_RECORD; line++) {
+            if (position >= windowLength) return -1; // no more lines in this window
+
+            int terminator = position;
+            while (terminator < windowLength) {
+                byte b = window.get(terminator);
+                if (b == '\n' || b == '\r') break;
+                terminator++;
+            }
+
+            lineStarts[line] = position;
+            lineEnds[line] = terminator;
+            if (terminator == windowLength) {
+                // the last line of the file may have no terminator
+                if (!windowReachesEof) return -1;
+                position = terminator;
+            } else if (window.get(terminator) == '\r') {
+                if (terminator + 1 == windowLength && !windowReachesEof) return -1; // might be half of \r\n
+                position = terminator + 1 < windowLength && window.get(terminator + 1) == '\n' ? terminator + 2 : terminator + 1;
+            } else {
+                position = terminator + 1;
+            }
+        }
+        return position;
+    }
+
+    private Employee parseRecord() {
+        String id = decode(0);
+        String name = pool.get(window, lineStarts[1], lineEnds[1] - lineStarts[1]);
+        double salary = parseDouble(lineStarts[2], lineEnds[2]);
+        String department = pool.get(window, lineStarts[3], lineEnds[3] - lineStarts[3]);
+        String position = pool.get(window, lineStarts[4], lineEnds[4] - lineStarts[4]);
+        int yearsOfService = parseInt(lineStarts[5], lineEnds[5]);
+        return new Employee(id, name, salary, department, position, yearsOfService);
+    }
+
+    private String decode(int line) {
+        byte[] bytes = new byte[lineEnds[line] - lineStarts[line]];
+        window.get(lineStarts[line], bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Parses a plain decimal such as {@code 61092.44} without allocating. When the value has more
+     * than 15 significant digits or 22 decimals, or any other syntax (exponents, whitespace, NaN),
+     * this falls back to {@link Double#parseDouble(String)}.
+     * <p>
+     * The fast path divides two exactly representable doubles, which IEEE 754 rounds correctly,
+     * so it returns the same value as {@link Double#parseDouble(String)}.
+     */
+    private double parseDouble(int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (window.get(i) == '-' || window.get(i) == '+')) {
+            negative = window.get(i) == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int significantDigits = 0;
+        int decimals = -1; // -1 until the decimal point is seen
+        for (; i < end; i++) {
+            byte b = window.get(i);
+            if (b >= '0' && b <= '9') {
+                mantissa = mantissa * 10 + (b - '0');
+                digits++;
+                if (mantissa != 0) significantDigits++;
+                if (decimals >= 0) decimals++;
+            } else if (b == '.' && decimals < 0) {
+                decimals = 0;
+            } else {
+                return Double.parseDouble(new String(slice(start, end), StandardCharsets.UTF_8));
+            }
+        }
+
+        if (digits == 0 || significantDigits > 15 || decimals > 22) {
+            return Double.parseDouble(new String(slice(start, end), StandardCharsets.UTF_8));
+        }
+
+        double value = decimals > 0 ? mantissa / POWERS_OF_TEN[decimals] : mantissa;
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses an int with the same rules as {@link Integer#parseInt(String)}, without allocating.
+     */
+    private int parseInt(int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (window.get(i) == '-' || window.get(i) == '+')) {
+            negative = window.get(i) == '-';
+            i++;
+        }
+        if (i == end) throw numberFormat(start, end);
+
+        long value = 0;
+        for (; i < end; i++) {
+            byte b = window.get(i);
+            if (b < '0' || b > '9') throw numberFormat(start, end);
+            value = value * 10 + (b - '0');
+            if (value > (long) Integer.MAX_VALUE + 1) throw numberFormat(start, end);
+        }
+        if (negative) value = -value;
+        if (value > Integer.MAX_VALUE) throw numberFormat(start, end);
+        return (int) value;
+    }
+
+    private NumberFormatException numberFormat(int start, int end) {
+        return new NumberFormatException("For input string: \"" + new String(slice(start, end), StandardCharsets.UTF_8) + "\"");
+    }
+
+    private byte[] slice(int start, int end) {
+        byte[] bytes = new byte[end - start];
+        window.get(start, bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,197 @@
+package xyz.zuner.handlers;
+
+import xyz.zuner.obj.Employee;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * <p>21:198:335:02 Data Structures & Algorithms</p>
+ * <p>Data Structures Final Project</p>
+ * <p>Rutgers ID: 199009651</p>
+ * <br>
+ * <p>
+ * Loads an employee file on several cores. The file is split into byte ranges and parsed in
+ * two parallel passes:
+ * <ol>
+ *     <li>every range counts its line terminators, and a prefix sum of the counts gives the line
+ *     number at the start of each range;</li>
+ *     <li>every range moves its start forward to the first line whose number is a multiple of six
+ *     (the start of a record) and parses the records that start before the next range does.</li>
+ * </ol>
+ * Counting lines first makes the split exact for any content, even IDs or names that look like
+ * other fields. The per-range results are joined in file order, so the result is the same list
+ * {@link EmployeeFileHandler#loadEmployeesFromFile(String)} returns.
+ * </p>
+ *
+ * @author Zeyad "zmr15" Rashed
+ * @mailto zmr15@scarletmail.rutgers.edu
+ * @created 18 Oct 2026
+ */
+final class ParallelEmployeeLoader {
+
+    private static final int LINES_PER_RECORD = 6;
+    private static final long MIN_CHUNK_SIZE = 1 << 20;
+    private static final int CHUNKS_PER_WORKER = 4;
+    private static final int SCAN_SIZE = 1 << 16;
+
+    private ParallelEmployeeLoader() {
+    }
+
+    /**
+     * Loads every employee in a file using the given pool.
+     *
+     * @param path the file to load
+     * @param pool the pool to parse on
+     * @return a list of employees in file order
+     * @throws IOException if an I/O error occurs or a record is truncated
+     */
+    static List<Employee> load(Path path, ForkJoinPool pool) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int chunks = (int) Math.max(1, Math.min(
+                    (long) pool.getParallelism() * CHUNKS_PER_WORKER,
+                    size / MIN_CHUNK_SIZE));
+            chunks = (int) Math.max(chunks, (size + MappedEmployeeReader.WINDOW_SIZE - 1) / MappedEmployeeReader.WINDOW_SIZE);
+
+            if (chunks == 1) {
+                List<Employee> employees = new ArrayList<>();
+                new MappedEmployeeReader(channel).readRange(0, size, employees);
+                return employees;
+            }
+
+            long[] bounds = new long[chunks + 1];
+            for (int i = 0; i <= chunks; i++) {
+                bounds[i] = size * i / chunks;
+            }
+
+            // pass 1: count lines per chunk, then turn the counts into the line number at each chunk start
+            List<Future<Long>> counts = new ArrayList<>(chunks);
+            for (int i = 0; i < chunks; i++) {
+                long start = bounds[i];
+                long end = bounds[i + 1];
+                counts.add(pool.submit(() -> countLines(channel, start, end)));
+            }
+            long[] firstLine = new long[chunks + 1];
+            for (int i = 0; i < chunks; i++) {
+                firstLine[i + 1] = firstLine[i] + join(counts.get(i));
+            }
+
+            // align every chunk to the first record that starts in it
+            long[] recordStarts = new long[chunks + 1];
+            for (int i = 0; i < chunks; i++) {
+                recordStarts[i] = recordStart(channel, bounds[i], firstLine[i]);
+            }
+            recordStarts[chunks] = size;
+
+            // pass 2: parse the records of every chunk
+            List<Future<List<Employee>>> parts = new ArrayList<>(chunks);
+            for (int i = 0; i < chunks; i++) {
+                long start = recordStarts[i];
+                long end = recordStarts[i + 1];
+                parts.add(pool.submit(() -> {
+                    List<Employee> part = new ArrayList<>();
+                    new MappedEmployeeReader(channel).readRange(start, end, part);
+                    return part;
+                }));
+            }
+
+            List<Employee> employees = new ArrayList<>((int) Math.min(Integer.MAX_VALUE - 8, firstLine[chunks] / LINES_PER_RECORD + 1));
+            for (Future<List<Employee>> part : parts) {
+                employees.addAll(join(part));
+            }
+            return employees;
+        }
+    }
+
+    /**
+     * Counts the line terminators ({@code \n}, {@code \r\n} or a lone {@code \r}) that end in
+     * {@code [start, end)}. A {@code \r\n} split by {@code end} is counted by the chunk holding the {@code \n}.
+     */
+    private static long countLines(FileChannel channel, long start, long end) throws IOException {
+        long size = channel.size();
+        int length = (int) (Math.min(size, end + 1) - start); // one byte of lookahead for \r\n
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+
+        int limit = (int) (end - start);
+        long lines = 0;
+        for (int i = 0; i < limit; i++) {
+            byte b = buffer.get(i);
+            if (b == '\n' || (b == '\r' && (i + 1 >= length || buffer.get(i + 1) != '\n'))) {
+                lines++;
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Finds the first record that starts at or after {@code offset}, given the number of
+     * line terminators that end before {@code offset}. Returns the file size if there is none.
+     */
+    private static long recordStart(FileChannel channel, long offset, long linesBefore) throws IOException {
+        if (offset == 0) return 0;
+
+        long size = channel.size();
+        long from = offset - 1; // one byte before the offset tells whether the offset starts a line
+        for (int scan = SCAN_SIZE; ; scan *= 2) {
+            int length = (int) Math.min(scan, size - from);
+            boolean reachesEof = from + length >= size;
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, from, length);
+
+            byte previous = buffer.get(0);
+            int i;
+            long line;
+            if (previous == '\n' || (previous == '\r' && buffer.get(1) != '\n')) {
+                i = 1;
+                line = linesBefore;
+            } else {
+                i = skipLine(buffer, 1, length, reachesEof);
+                line = linesBefore + 1;
+            }
+            while (i >= 0 && line % LINES_PER_RECORD != 0) {
+                i = skipLine(buffer, i, length, reachesEof);
+                line++;
+            }
+            if (i >= 0) return from + i;
+            // the lines did not fit in the scanned bytes; scan further
+        }
+    }
+
+    /**
+     * Returns the index just past the line terminator at or after {@code i}. A line cut off by
+     * the end of the file ends there; one cut off by the end of the buffer gives -1.
+     */
+    private static int skipLine(MappedByteBuffer buffer, int i, int length, boolean reachesEof) {
+        while (i < length) {
+            byte b = buffer.get(i++);
+            if (b == '\n') return i;
+            if (b == '\r') {
+                if (i < length) return buffer.get(i) == '\n' ? i + 1 : i;
+                return reachesEof ? i : -1;
+            }
+        }
+        return reachesEof ? length : -1;
+    }
+
+    private static <T> T join(Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while loading employees", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) throw io;
+            if (cause instanceof RuntimeException runtime) throw runtime;
+            throw new IOException(cause);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package xyz.zuner.obj;
 
-import java.io.Serializable;
+import java.io.*;
+import java.util.Comparator;
 
 /**
  * <p>21:198:335:02 Data Structures & Algorithms</p>
@@ -8,7 +9,12 @@ import java.io.Serializable;
  * <p>Rutgers ID: 199009651</p>
  * <br>
  * <p>
- * Represents an Employee, extending the Person class.
+ * Represents an Employee, extending the Person class. The views of {@link EmployeeStore#view(int)}
+ * are a subclass that reads and writes a row of the store instead of these fields.
+ * <p>
+ * Departments and positions are kept as codes in the shared {@link #DEPARTMENTS} and
+ * {@link #POSITIONS} dictionaries, so every employee of a department points to one string, and
+ * the comparators below compare codes instead of strings.
  *
  * @author Zeyad "zmr15" Rashed
  * @mailto zmr15@scarletmail.rutgers.edu
@@ -16,9 +22,47 @@ import java.io.Serializable;
  */
 public class Employee extends Person implements Serializable {
 
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Dictionary of the departments of every employee, up to 65,536 departments.
+     */
+    public static final SharedStringDictionary DEPARTMENTS = new SharedStringDictionary(1 << 16);
+
+    /**
+     * Dictionary of the positions of every employee, up to 65,536 positions.
+     */
+    public static final SharedStringDictionary POSITIONS = new SharedStringDictionary(1 << 16);
+
+    /**
+     * Orders employees by name, with null last.
+     *
+     * @see Person#compareNames(Person, Person)
+     */
+    public static final Comparator<Employee> BY_NAME = Person::compareNames;
+
+    /**
+     * Orders employees by department, with null last, comparing dictionary codes.
+     */
+    public static final Comparator<Employee> BY_DEPARTMENT = (a, b) -> a.hasOwnFields() && b.hasOwnFields()
+            && a.uncodedDepartment == null && b.uncodedDepartment == null
+            ? DEPARTMENTS.compare(a.department, b.department)
+            : Comparator.nullsLast(Comparator.<String>naturalOrder()).compare(a.getDepartment(), b.getDepartment());
+
+    /**
+     * Orders employees by position, with null last, comparing dictionary codes.
+     */
+    public static final Comparator<Employee> BY_POSITION = (a, b) -> a.hasOwnFields() && b.hasOwnFields()
+            && a.uncodedPosition == null && b.uncodedPosition == null
+            ? POSITIONS.compare(a.position, b.position)
+            : Comparator.nullsLast(Comparator.<String>naturalOrder()).compare(a.getPosition(), b.getPosition());
+
     private double salary;
-    private String department;
-    private String position;
+    private transient int department; // code in DEPARTMENTS
+    private transient int position; // code in POSITIONS
+    private transient String uncodedDepartment; // the department itself, if DEPARTMENTS was full
+    private transient String uncodedPosition; // the position itself, if POSITIONS was full
     private int yearsOfService;
 
     /**
@@ -34,8 +78,8 @@ public class Employee extends Person implements Serializable {
     public Employee(String id, String name, double salary, String department, String position, int yearsOfService) {
         super(id, name);
         this.salary = salary;
-        this.department = department;
-        this.position = position;
+        storeDepartment(department);
+        storePosition(position);
         this.yearsOfService = yearsOfService;
     }
 
@@ -45,11 +89,18 @@ public class Employee extends Person implements Serializable {
     public Employee(String id, String name, double salary, int yearsOfService) {
         super(id, name);
         this.salary = salary;
-        this.department = "Unknown";
-        this.position = "Unknown";
+        storeDepartment("Unknown");
+        storePosition("Unknown");
         this.yearsOfService = yearsOfService;
     }
 
+    /**
+     * Constructs an employee whose getters and setters are all overridden, such as a store view.
+     */
+    Employee() {
+        super(null, null);
+    }
+
     // getters and setters
     public double getSalary() {
         return salary;
@@ -57,22 +108,25 @@ public class Employee extends Person implements Serializable {
 
     public void setSalary(double salary) {
         this.salary = salary;
+        markDirty();
     }
 
     public String getDepartment() {
-        return department;
+        return uncodedDepartment != null ? uncodedDepartment : DEPARTMENTS.decode(department);
     }
 
     public void setDepartment(String department) {
-        this.department = department;
+        storeDepartment(department);
+        markDirty();
     }
 
     public String getPosition() {
-        return position;
+        return uncodedPosition != null ? uncodedPosition : POSITIONS.decode(position);
     }
 
     public void setPosition(String position) {
-        this.position = position;
+        storePosition(position);
+        markDirty();
     }
 
     public int getYearsOfService() {
@@ -81,12 +135,37 @@ public class Employee extends Person implements Serializable {
 
     public void setYearsOfService(int yearsOfService) {
         this.yearsOfService = yearsOfService;
+        markDirty();
+    }
+
+    private void storeDepartment(String department) {
+        this.department = DEPARTMENTS.encode(department);
+        this.uncodedDepartment = this.department == SharedStringDictionary.NOT_ENCODED ? department : null;
+    }
+
+    private void storePosition(String position) {
+        this.position = POSITIONS.encode(position);
+        this.uncodedPosition = this.position == SharedStringDictionary.NOT_ENCODED ? position : null;
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeObject(hasOwnFields() ? getDepartment() : null); // codes are only valid in this JVM
+        out.writeObject(hasOwnFields() ? getPosition() : null);
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        storeDepartment((String) in.readObject());
+        storePosition((String) in.readObject());
     }
 
     @Override
     public String toString() {
         return String.format(
                 "Employee{id='%s', name='%s', salary=%.2f, department='%s', position='%s', yearsOfService=%d}",
-                getId(), getName(), salary, department, position, yearsOfService);
+                getId(), getName(), getSalary(), getDepartment(), getPosition(), getYearsOfService());
     }
 }
\ No newline at end of file
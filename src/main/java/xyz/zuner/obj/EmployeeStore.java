@@ -0,0 +1,379 @@
+package xyz.zuner.obj;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * <p>21:198:335:02 Data Structures & Algorithms</p>
+ * <p>Data Structures Final Project</p>
+ * <p>Rutgers ID: 199009651</p>
+ * <br>
+ * <p>
+ * Columnar (struct-of-arrays) storage for employees. Every field is kept in its own primitive
+ * array indexed by row: numeric IDs, salaries and years of service directly, and names,
+ * departments and positions as {@link StringDictionary} codes. A row costs a few dozen bytes
+ * instead of an {@link Employee} object plus its strings, and sorting on a column reads one
+ * contiguous array.
+ * </p>
+ * <p>
+ * {@link #view(int)} returns an {@link Employee} subclass that reads and writes a row of the
+ * store. A view is bound to a row index, not to an employee: after {@link #permute(int[])} it shows
+ * whichever employee moved into its row. Views are made on every call, for code written against
+ * {@link Employee}; they still carry the (unused) fields of an employee, so they are meant to be
+ * short-lived, and loops over many rows should use the column accessors instead.
+ * </p>
+ *
+ * @author Zeyad "zmr15" Rashed
+ * @mailto zmr15@scarletmail.rutgers.edu
+ * @created 18 Oct 2026
+ */
+public class EmployeeStore implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final StringDictionary idDictionary = new StringDictionary(); // IDs not in numeric form
+    private final StringDictionary nameDictionary = new StringDictionary();
+    private final StringDictionary departmentDictionary = new StringDictionary();
+    private final StringDictionary positionDictionary = new StringDictionary();
+
+    private int size;
+    private int[] ids; // numeric ID, or -(code + 1) into idDictionary
+    private int[] names;
+    private double[] salaries;
+    private int[] departments;
+    private int[] positions;
+    private int[] yearsOfService;
+
+    /**
+     * Creates an empty store.
+     */
+    public EmployeeStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty store with room for the given number of rows.
+     *
+     * @param capacity the initial number of rows
+     */
+    public EmployeeStore(int capacity) {
+        capacity = Math.max(capacity, 1);
+        ids = new int[capacity];
+        names = new int[capacity];
+        salaries = new double[capacity];
+        departments = new int[capacity];
+        positions = new int[capacity];
+        yearsOfService = new int[capacity];
+    }
+
+    /**
+     * Appends a row to the store.
+     *
+     * @param id             the employee's ID
+     * @param name           the employee's name
+     * @param salary         the employee's salary
+     * @param department     the employee's department
+     * @param position       the employee's position
+     * @param yearsOfService the employee's years of service
+     * @return the index of the new row
+     */
+    public int add(String id, String name, double salary, String department, String position, int yearsOfService) {
+        if (size == ids.length) grow();
+        int row = size++;
+        setId(row, id);
+        setName(row, name);
+        setSalary(row, salary);
+        setDepartment(row, department);
+        setPosition(row, position);
+        setYearsOfService(row, yearsOfService);
+        return row;
+    }
+
+    /**
+     * Appends a copy of an employee to the store.
+     *
+     * @param employee the employee to copy
+     * @return the index of the new row
+     */
+    public int add(Employee employee) {
+        return add(employee.getId(), employee.getName(), employee.getSalary(),
+                employee.getDepartment(), employee.getPosition(), employee.getYearsOfService());
+    }
+
+    /**
+     * Gets the number of rows in the store.
+     *
+     * @return the number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets an employee view over a row.
+     *
+     * @param row the row index
+     * @return a view that reads and writes the row
+     */
+    public Employee view(int row) {
+        checkRow(row);
+        return new RowView(this, row);
+    }
+
+    /**
+     * Gets the row a view is bound to.
+     *
+     * @param view a view returned by this store
+     * @return the row index of the view
+     * @throws IllegalArgumentException if the employee is not a view of this store
+     */
+    public int rowOf(Employee view) {
+        if (!(view instanceof RowView rowView) || rowView.store != this) {
+            throw new IllegalArgumentException("Not a view of this store: " + view);
+        }
+        return rowView.row;
+    }
+
+    /**
+     * Gets an unmodifiable list of views over every row. The list cannot be sorted with
+     * {@link List#sort(java.util.Comparator)}, since moving views around would not move rows;
+     * sort the store itself with {@link #permute(int[])} instead.
+     *
+     * @return a list view of the store
+     */
+    public List<Employee> asList() {
+        return new RowList();
+    }
+
+    /**
+     * Reorders the rows so that row {@code i} afterwards holds what was row {@code order[i]}.
+     * <p>
+     * Time Complexity: O(n) per column.
+     *
+     * @param order a permutation of {@code 0 .. size() - 1}
+     */
+    public void permute(int[] order) {
+        if (order.length != size) throw new IllegalArgumentException("Permutation size " + order.length + " != " + size);
+        ids = permute(ids, order);
+        names = permute(names, order);
+        departments = permute(departments, order);
+        positions = permute(positions, order);
+        yearsOfService = permute(yearsOfService, order);
+
+        double[] permutedSalaries = new double[salaries.length];
+        for (int i = 0; i < size; i++) permutedSalaries[i] = salaries[order[i]];
+        salaries = permutedSalaries;
+    }
+
+    // column accessors
+
+    public String getId(int row) {
+        checkRow(row);
+        int id = ids[row];
+        return id >= 0 ? Person.formatNumericId(id) : idDictionary.decode(-id - 1);
+    }
+
+    /**
+     * Gets the numeric form of a row's ID without formatting it.
+     *
+     * @param row the row index
+     * @return the numeric ID, or -1 if the ID is not in numeric form
+     * @see Person#parseNumericId(String)
+     */
+    public int getNumericId(int row) {
+        checkRow(row);
+        return Math.max(ids[row], -1);
+    }
+
+    public void setId(int row, String id) {
+        checkRow(row);
+        int numeric = Person.parseNumericId(id);
+        ids[row] = numeric >= 0 ? numeric : -idDictionary.encode(id) - 1;
+    }
+
+    public String getName(int row) {
+        checkRow(row);
+        return nameDictionary.decode(names[row]);
+    }
+
+    public void setName(int row, String name) {
+        checkRow(row);
+        names[row] = nameDictionary.encode(name);
+    }
+
+    public double getSalary(int row) {
+        checkRow(row);
+        return salaries[row];
+    }
+
+    public void setSalary(int row, double salary) {
+        checkRow(row);
+        salaries[row] = salary;
+    }
+
+    public String getDepartment(int row) {
+        checkRow(row);
+        return departmentDictionary.decode(departments[row]);
+    }
+
+    public void setDepartment(int row, String department) {
+        checkRow(row);
+        departments[row] = departmentDictionary.encode(department);
+    }
+
+    public String getPosition(int row) {
+        checkRow(row);
+        return positionDictionary.decode(positions[row]);
+    }
+
+    public void setPosition(int row, String position) {
+        checkRow(row);
+        positions[row] = positionDictionary.encode(position);
+    }
+
+    public int getYearsOfService(int row) {
+        checkRow(row);
+        return yearsOfService[row];
+    }
+
+    public void setYearsOfService(int row, int years) {
+        checkRow(row);
+        yearsOfService[row] = years;
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) throw new IndexOutOfBoundsException("Row " + row + " out of bounds for size " + size);
+    }
+
+    private void grow() {
+        int capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        names = Arrays.copyOf(names, capacity);
+        salaries = Arrays.copyOf(salaries, capacity);
+        departments = Arrays.copyOf(departments, capacity);
+        positions = Arrays.copyOf(positions, capacity);
+        yearsOfService = Arrays.copyOf(yearsOfService, capacity);
+    }
+
+    private int[] permute(int[] column, int[] order) {
+        int[] permuted = new int[column.length];
+        for (int i = 0; i < size; i++) permuted[i] = column[order[i]];
+        return permuted;
+    }
+
+    /**
+     * Unmodifiable list of row views.
+     */
+    private final class RowList extends AbstractList<Employee> implements RandomAccess {
+
+        @Override
+        public Employee get(int index) {
+            return view(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * An employee that reads and writes a row of a store instead of its own fields.
+     */
+    private static final class RowView extends Employee {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final EmployeeStore store;
+        private final int row;
+
+        RowView(EmployeeStore store, int row) {
+            this.store = store;
+            this.row = row;
+        }
+
+        @Override
+        public String getId() {
+            return store.getId(row);
+        }
+
+        @Override
+        public int getNumericId() {
+            return store.getNumericId(row);
+        }
+
+        @Override
+        public void setId(String id) {
+            store.setId(row, id);
+            markDirty();
+        }
+
+        @Override
+        public String getName() {
+            return store.getName(row);
+        }
+
+        @Override
+        public void setName(String name) {
+            store.setName(row, name);
+            markDirty();
+        }
+
+        @Override
+        public double getSalary() {
+            return store.getSalary(row);
+        }
+
+        @Override
+        public void setSalary(double salary) {
+            store.setSalary(row, salary);
+            markDirty();
+        }
+
+        @Override
+        public String getDepartment() {
+            return store.getDepartment(row);
+        }
+
+        @Override
+        public void setDepartment(String department) {
+            store.setDepartment(row, department);
+            markDirty();
+        }
+
+        @Override
+        public String getPosition() {
+            return store.getPosition(row);
+        }
+
+        @Override
+        public void setPosition(String position) {
+            store.setPosition(row, position);
+            markDirty();
+        }
+
+        @Override
+        public int getYearsOfService() {
+            return store.getYearsOfService(row);
+        }
+
+        @Override
+        public void setYearsOfService(int yearsOfService) {
+            store.setYearsOfService(row, yearsOfService);
+            markDirty();
+        }
+
+        @Override
+        protected boolean hasOwnFields() {
+            return false;
+        }
+    }
+}
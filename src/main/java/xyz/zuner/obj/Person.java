@@ -1,20 +1,53 @@
 package xyz.zuner.obj;
 
+import java.io.*;
+import java.util.Comparator;
+
 /**
  * <p>21:198:335:02 Data Structures & Algorithms</p>
  * <p>Data Structures Final Project</p>
  * <p>Rutgers ID: 199009651</p>
  * <br>
  * <p>
- * Abstract class representing a generic person.
+ * Abstract class representing a generic person. Setters mark the person dirty, so savers can
+ * write back only the records that changed since they were last saved.
+ * <p>
+ * IDs in canonical numeric form (see {@link #parseNumericId(String)}) are kept as an {@code int}
+ * and only formatted when {@link #getId()} is called. Names are split at their first space into a
+ * first and a last part, each kept as a code in {@link #NAME_PARTS}, so persons with the same
+ * first or last name share one string. {@link #getName()} joins the parts on every call, so code
+ * that compares many persons uses {@link #compareIds}, {@link #compareNames} and the keys below,
+ * which work on the numbers and codes without building strings.
  *
  * @author Zeyad "zmr15" Rashed
  * @mailto zmr15@scarletmail.rutgers.edu
  * @created 30 Nov 2024
  */
-public abstract class Person {
-    private String id;
-    private String name;
+public abstract class Person implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Dictionary of the first and last name parts of every person, up to a million parts.
+     */
+    public static final SharedStringDictionary NAME_PARTS = new SharedStringDictionary(1 << 20);
+
+    /**
+     * Returned by {@link #nameCodes()} for a name that is not kept as codes.
+     */
+    public static final long NO_NAME_CODES = Long.MIN_VALUE;
+
+    private static final long[] POWERS_OF_TEN = {1, 10, 100, 1_000};
+
+    private transient int numericId = -1; // the ID if it is in numeric form
+    private transient String id; // the ID otherwise
+    private transient int firstName = SharedStringDictionary.NULL; // the name up to its first space
+    private transient int lastName = SharedStringDictionary.NULL; // the rest of the name, if it has a space
+    private transient String uncodedName; // the name itself, if NAME_PARTS was full
+    private boolean dirty = true; // not saved yet
+    private transient ChangeListener changeListener; // told when a clean person changes
+    private transient int record; // the record number the listener knows the person by
 
     /**
      * Constructs a Person object with the given ID and name.
@@ -23,8 +56,8 @@ public abstract class Person {
      * @param name the name of the person
      */
     public Person(String id, String name) {
-        this.id = id;
-        this.name = name;
+        storeId(id);
+        storeName(name);
     }
 
     /**
@@ -33,7 +66,17 @@ public abstract class Person {
      * @return the ID
      */
     public String getId() {
-        return id;
+        return numericId >= 0 ? formatNumericId(numericId) : id;
+    }
+
+    /**
+     * Gets the numeric form of the ID without formatting it.
+     *
+     * @return the numeric ID, or -1 if the ID is not in numeric form
+     * @see #parseNumericId(String)
+     */
+    public int getNumericId() {
+        return numericId;
     }
 
     /**
@@ -42,7 +85,8 @@ public abstract class Person {
      * @param id the new ID
      */
     public void setId(String id) {
-        this.id = id;
+        storeId(id);
+        markDirty();
     }
 
     /**
@@ -51,7 +95,9 @@ public abstract class Person {
      * @return the name
      */
     public String getName() {
-        return name;
+        if (uncodedName != null) return uncodedName;
+        String first = NAME_PARTS.decode(firstName);
+        return lastName == SharedStringDictionary.NULL ? first : first + ' ' + NAME_PARTS.decode(lastName);
     }
 
     /**
@@ -60,11 +106,261 @@ public abstract class Person {
      * @param name the new name
      */
     public void setName(String name) {
-        this.name = name;
+        storeName(name);
+        markDirty();
+    }
+
+    /**
+     * Checks whether the person changed since it was last marked clean. New persons are dirty
+     * until they are saved.
+     *
+     * @return true if a setter was called since the last {@link #markClean()}
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Marks the person as matching its saved record.
+     */
+    public void markClean() {
+        dirty = false;
+    }
+
+    /**
+     * Marks the person as matching its saved record, and reports every later change from clean to
+     * dirty to a listener, so a saver can keep a list of the records to write back instead of
+     * checking every person.
+     *
+     * @param listener told about the person's record whenever the person stops being clean
+     * @param record   the record number to report
+     */
+    public void trackChanges(ChangeListener listener, int record) {
+        this.changeListener = listener;
+        this.record = record;
+        dirty = false;
+    }
+
+    /**
+     * Marks the person as changed since it was last saved. Subclasses call this from their setters.
+     */
+    protected void markDirty() {
+        if (!dirty && changeListener != null) changeListener.changed(record);
+        dirty = true;
+    }
+
+    /**
+     * Receives the changes of tracked persons.
+     *
+     * @see #trackChanges(ChangeListener, int)
+     */
+    @FunctionalInterface
+    public interface ChangeListener {
+        /**
+         * Called when a tracked person changes after it was marked clean.
+         *
+         * @param record the record number the person is tracked under
+         */
+        void changed(int record);
+    }
+
+    /**
+     * Compares the IDs of two persons in String order. Numeric IDs compare by their
+     * {@linkplain #numericIdOrder(int) order keys}, without being formatted.
+     *
+     * @param a the first person
+     * @param b the second person
+     * @return the comparison of {@code a.getId()} and {@code b.getId()}
+     */
+    public static int compareIds(Person a, Person b) {
+        int x = a.getNumericId();
+        int y = b.getNumericId();
+        if (x >= 0 && y >= 0) {
+            return numericIdWidth(x) == numericIdWidth(y) ? Integer.compare(x, y) : Long.compare(numericIdOrder(x), numericIdOrder(y));
+        }
+        return a.getId().compareTo(b.getId());
+    }
+
+    /**
+     * Gets a key of a numeric ID that orders numeric IDs of any width like their strings: the
+     * digits right-padded with zeros to nine, then the width, so that an ID comes right before
+     * the longer IDs it is a prefix of.
+     *
+     * @param id a numeric ID
+     * @return a non-negative key below {@code 4 * 10^9}
+     */
+    public static long numericIdOrder(int id) {
+        int width = numericIdWidth(id);
+        return (id * POWERS_OF_TEN[9 - width] << 2) | (width - 6);
+    }
+
+    /**
+     * Compares the names of two persons in String order, with null last, by the dictionary
+     * ranks of their parts.
+     *
+     * @param a the first person
+     * @param b the second person
+     * @return the comparison of {@code a.getName()} and {@code b.getName()}
+     */
+    public static int compareNames(Person a, Person b) {
+        long x = a.nameCodes();
+        long y = b.nameCodes();
+        if (x == NO_NAME_CODES || y == NO_NAME_CODES) {
+            return Comparator.nullsLast(Comparator.<String>naturalOrder()).compare(a.getName(), b.getName());
+        }
+        return compareNameCodes(x, y);
+    }
+
+    /**
+     * Gets the dictionary codes of the name, for code that compares or groups many names.
+     *
+     * @return the code of the first part in the high and of the last part in the low 32 bits,
+     * or {@link #NO_NAME_CODES} if the name is not kept as codes
+     * @see #compareNameCodes(long, long)
+     */
+    public long nameCodes() {
+        if (!hasOwnFields() || uncodedName != null) return NO_NAME_CODES;
+        return ((long) firstName << 32) | (lastName & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Compares two names by their codes, in String order with null last. Only first parts where
+     * one is a prefix of the other (such as "Ann" and "Anna") are looked at character by
+     * character, and only at the one character where they differ.
+     *
+     * @param a the {@link #nameCodes()} of the first name
+     * @param b the {@link #nameCodes()} of the second name
+     * @return the comparison of the names
+     */
+    public static int compareNameCodes(long a, long b) {
+        if (a == b) return 0;
+        int aFirst = (int) (a >> 32);
+        int aLast = (int) a;
+        int bFirst = (int) (b >> 32);
+        int bLast = (int) b;
+        if (aFirst == bFirst) {
+            if (aLast == SharedStringDictionary.NULL) return -1; // "Ann" comes before "Ann Lee"
+            if (bLast == SharedStringDictionary.NULL) return 1;
+            return NAME_PARTS.compare(aLast, bLast);
+        }
+        if (aFirst == SharedStringDictionary.NULL || bFirst == SharedStringDictionary.NULL) {
+            return NAME_PARTS.compare(aFirst, bFirst);
+        }
+        String first = NAME_PARTS.decode(aFirst);
+        String other = NAME_PARTS.decode(bFirst);
+        if (other.startsWith(first)) return continuesBefore(aLast, other.charAt(first.length())) ? -1 : 1;
+        if (first.startsWith(other)) return continuesBefore(bLast, first.charAt(other.length())) ? 1 : -1;
+        return NAME_PARTS.compare(aFirst, bFirst);
+    }
+
+    /**
+     * Checks whether a name whose first part is a prefix of another name's first part sorts
+     * first: it either ends there or goes on with the space before its last part, which the
+     * longer first part cannot hold.
+     */
+    private static boolean continuesBefore(int lastName, char next) {
+        return lastName == SharedStringDictionary.NULL || ' ' < next;
+    }
+
+    /**
+     * Checks whether the ID and name are held by this object, rather than read from elsewhere
+     * by an overriding getter.
+     *
+     * @return true if the fields of this object hold the ID and name
+     */
+    protected boolean hasOwnFields() {
+        return true;
+    }
+
+    private void storeId(String id) {
+        numericId = parseNumericId(id);
+        this.id = numericId >= 0 ? null : id;
+    }
+
+    private void storeName(String name) {
+        int space = name == null ? -1 : name.indexOf(' ');
+        if (space < 0) {
+            firstName = NAME_PARTS.encode(name);
+            lastName = SharedStringDictionary.NULL;
+        } else {
+            firstName = NAME_PARTS.encode(name.substring(0, space));
+            lastName = NAME_PARTS.encode(name.substring(space + 1));
+        }
+        uncodedName = null;
+        if (firstName == SharedStringDictionary.NOT_ENCODED || lastName == SharedStringDictionary.NOT_ENCODED) {
+            firstName = SharedStringDictionary.NULL;
+            lastName = SharedStringDictionary.NULL;
+            uncodedName = name;
+        }
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeObject(hasOwnFields() ? getId() : null); // codes are only valid in this JVM
+        out.writeObject(hasOwnFields() ? getName() : null);
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        storeId((String) in.readObject());
+        storeName((String) in.readObject());
+    }
+
+    /**
+     * Parses an ID in the zero-padded numeric form written by the random generator
+     * ({@code String.format("%06d", n)}). Only IDs that format back to exactly the same
+     * string are accepted, so the numeric value can stand in for the ID.
+     *
+     * @param id the ID to parse
+     * @return the numeric value of the ID, or -1 if the ID is not in canonical numeric form
+     */
+    public static int parseNumericId(String id) {
+        int length = id == null ? 0 : id.length();
+        if (length < 6 || length > 9 || (length > 6 && id.charAt(0) == '0')) return -1;
+
+        int value = 0;
+        for (int i = 0; i < length; i++) {
+            char c = id.charAt(i);
+            if (c < '0' || c > '9') return -1;
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Formats a numeric ID back to its canonical, zero-padded string form.
+     *
+     * @param id the numeric ID
+     * @return the ID padded to at least six digits
+     * @see #parseNumericId(String)
+     */
+    public static String formatNumericId(int id) {
+        char[] digits = new char[numericIdWidth(id)];
+        for (int i = digits.length - 1; i >= 0; i--) {
+            digits[i] = (char) ('0' + id % 10);
+            id /= 10;
+        }
+        return new String(digits);
+    }
+
+    /**
+     * Gets the length of the canonical string form of a numeric ID without formatting it.
+     *
+     * @param id the numeric ID
+     * @return the number of characters in the formatted ID
+     */
+    public static int numericIdWidth(int id) {
+        int width = 6;
+        for (int limit = 1_000_000; width < 10 && id >= limit; limit *= 10) {
+            width++;
+        }
+        return width;
     }
 
     @Override
     public String toString() {
-        return "ID: " + id + ", Name: " + name;
+        return "ID: " + getId() + ", Name: " + getName();
     }
 }
\ No newline at end of file
@@ -0,0 +1,137 @@
+package xyz.zuner.obj;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>21:198:335:02 Data Structures & Algorithms</p>
+ * <p>Data Structures Final Project</p>
+ * <p>Rutgers ID: 199009651</p>
+ * <br>
+ * <p>
+ * Thread-safe dictionary encoding shared by every {@link Employee}, so the parallel loaders can
+ * encode fields from several threads. Like {@link StringDictionary}, each distinct string gets a
+ * dense {@code int} code in the order it was first seen; {@code null} is encoded as {@value #NULL}.
+ * </p>
+ * <p>
+ * Codes are not in string order, so {@link #compare(int, int)} compares the sorted rank of each
+ * code. The ranks are recomputed only after new strings were added, which keeps comparisons
+ * during a sort down to two array reads and an integer compare.
+ * </p>
+ * <p>
+ * The dictionaries are static and live as long as the JVM: strings are never removed, since any
+ * live employee may hold their codes, so they also keep the strings of datasets that were
+ * replaced since. A dictionary therefore holds at most a fixed number of strings. Once it is
+ * full, new strings are not encoded ({@link #NOT_ENCODED}) and the callers keep them themselves.
+ * </p>
+ *
+ * @author Zeyad "zmr15" Rashed
+ * @mailto zmr15@scarletmail.rutgers.edu
+ * @created 18 Oct 2026
+ */
+public final class SharedStringDictionary {
+
+    /**
+     * The code of {@code null}.
+     */
+    public static final int NULL = -1;
+
+    /**
+     * Returned by {@link #encode(String)} for a new string when the dictionary is full.
+     */
+    public static final int NOT_ENCODED = -2;
+
+    private final ConcurrentHashMap<String, Integer> codes = new ConcurrentHashMap<>();
+    private volatile String[] values = new String[16];
+    private volatile int[] ranks = new int[0]; // sorted position of every code; stale when shorter than size
+    private final int maxSize;
+    private int size; // guarded by this
+
+    /**
+     * Creates an empty dictionary.
+     *
+     * @param maxSize the most strings the dictionary will hold
+     */
+    public SharedStringDictionary(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Gets the code of a string, adding the string to the dictionary if it is new and the
+     * dictionary is not full.
+     * <p>
+     * Time Complexity: O(1) expected; lock-free for strings already in the dictionary.
+     *
+     * @param value the string to encode, or null
+     * @return the code of the string, or {@link #NOT_ENCODED} if it is new and the dictionary is full
+     */
+    public int encode(String value) {
+        if (value == null) return NULL;
+        Integer code = codes.get(value);
+        if (code != null) return code;
+
+        synchronized (this) {
+            code = codes.get(value);
+            if (code != null) return code;
+            if (size == maxSize) return NOT_ENCODED;
+            String[] array = values;
+            if (size == array.length) values = array = Arrays.copyOf(array, (int) Math.min(2L * size, maxSize));
+            array[size] = value; // written before the code is published through the map
+            code = size++;
+            codes.put(value, code);
+            return code;
+        }
+    }
+
+    /**
+     * Gets the string for a code.
+     *
+     * @param code a code returned by {@link #encode(String)}
+     * @return the shared string instance for the code, or null for {@link #NULL}
+     */
+    public String decode(int code) {
+        return code == NULL ? null : values[code];
+    }
+
+    /**
+     * Compares the strings of two codes, with null last.
+     * <p>
+     * Time Complexity: O(1), plus O(d log d) for the d strings of the dictionary after a string was added.
+     *
+     * @param a the first code
+     * @param b the second code
+     * @return a negative number, zero or a positive number as the first string is less than,
+     * equal to or greater than the second
+     */
+    public int compare(int a, int b) {
+        if (a == b) return 0;
+        if (a == NULL) return 1;
+        if (b == NULL) return -1;
+        int[] rank = ranks;
+        if (a >= rank.length || b >= rank.length) rank = rank();
+        return Integer.compare(rank[a], rank[b]);
+    }
+
+    /**
+     * Gets the number of distinct strings in the dictionary.
+     *
+     * @return the dictionary size
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    private synchronized int[] rank() {
+        if (ranks.length == size) return ranks;
+        String[] array = values;
+        Integer[] order = new Integer[size];
+        for (int code = 0; code < size; code++) order[code] = code;
+        Arrays.sort(order, Comparator.comparing(code -> array[code]));
+
+        int[] rank = new int[size];
+        for (int position = 0; position < size; position++) rank[order[position]] = position;
+        ranks = rank;
+        return rank;
+    }
+}
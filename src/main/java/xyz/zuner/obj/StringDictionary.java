@@ -0,0 +1,64 @@
+package xyz.zuner.obj;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * <p>21:198:335:02 Data Structures & Algorithms</p>
+ * <p>Data Structures Final Project</p>
+ * <p>Rutgers ID: 199009651</p>
+ * <br>
+ * <p>
+ * Dictionary encoding for repeated strings. Each distinct string is stored once and
+ * given a dense {@code int} code in the order it was first seen.
+ * </p>
+ *
+ * @author Zeyad "zmr15" Rashed
+ * @mailto zmr15@scarletmail.rutgers.edu
+ * @created 18 Oct 2026
+ */
+public class StringDictionary implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final HashMap<String, Integer> codes = new HashMap<>();
+    private final ArrayList<String> values = new ArrayList<>();
+
+    /**
+     * Gets the code of a string, adding the string to the dictionary if it is new.
+     *
+     * @param value the string to encode
+     * @return the code of the string
+     */
+    public int encode(String value) {
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = values.size();
+            codes.put(value, code);
+            values.add(value);
+        }
+        return code;
+    }
+
+    /**
+     * Gets the string for a code.
+     *
+     * @param code the code to decode
+     * @return the shared string instance for the code
+     */
+    public String decode(int code) {
+        return values.get(code);
+    }
+
+    /**
+     * Gets the number of distinct strings in the dictionary.
+     *
+     * @return the dictionary size
+     */
+    public int size() {
+        return values.size();
+    }
+}